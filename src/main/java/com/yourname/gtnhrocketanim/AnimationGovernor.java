@@ -0,0 +1,128 @@
+package com.yourname.gtnhrocketanim;
+
+import net.minecraft.server.MinecraftServer;
+
+/**
+ * Steps rocket animation fidelity down while the server is lagging.
+ *
+ * Once a second (FlightTickEvents) the mean of MinecraftServer.tickTimeArray,
+ * i.e. the MSPT over the last 100 ticks, is compared with the configured
+ * thresholds:
+ *   FULL     everything as configured
+ *   REDUCED  no flight-plan correction packets
+ *   SHORT    new flights cover half the distance: takeoff ends halfway to
+ *            takeoffAltitudeThreshold, landings start at half landingSpawnHeight
+ *   INSTANT  new flights are refused (FlightSimulator.admitFlight) and use
+ *            GC's instant transfer
+ * The level rises straight to whatever the MSPT calls for, and falls one
+ * level per sample once the MSPT is below that level's threshold by
+ * RocketAnimConfig.governorHysteresisMspt.  Flights already running keep the
+ * plan they started with.
+ *
+ * Server thread only.
+ */
+public final class AnimationGovernor {
+
+    public static final int FULL    = 0;
+    public static final int REDUCED = 1;
+    public static final int SHORT   = 2;
+    public static final int INSTANT = 3;
+
+    private static final String[] LEVEL_NAMES = { "full", "reduced", "short", "instant" };
+
+    /** Server ticks between samples. */
+    private static final int SAMPLE_INTERVAL = 20;
+
+    /** Fraction of the takeoff / landing distance flown at SHORT and above. */
+    private static final double SHORT_FACTOR = 0.5D;
+
+    private static int    level;
+    private static double mspt;
+    private static int    ticks;
+
+    private AnimationGovernor() {}
+
+    // ========== SAMPLING ==========
+
+    /** Called at the end of every server tick. */
+    static void onServerTick() {
+        if (++ticks < SAMPLE_INTERVAL) return;
+        ticks = 0;
+
+        if (!RocketAnimConfig.governorEnabled) {
+            setLevel(FULL);
+            return;
+        }
+        MinecraftServer server = MinecraftServer.getServer();
+        if (server == null) return;
+
+        long[] times = server.tickTimeArray;
+        long sum = 0;
+        for (int i = 0; i < times.length; i++) sum += times[i];
+        mspt = sum / (double) times.length / 1.0E6D;
+
+        int target = FULL;
+        if (mspt >= RocketAnimConfig.governorInstantMspt)      target = INSTANT;
+        else if (mspt >= RocketAnimConfig.governorShortMspt)   target = SHORT;
+        else if (mspt >= RocketAnimConfig.governorReducedMspt) target = REDUCED;
+
+        if (target > level) {
+            setLevel(target);
+        } else if (target < level && mspt < threshold(level) - RocketAnimConfig.governorHysteresisMspt) {
+            setLevel(level - 1);
+        }
+    }
+
+    private static double threshold(int l) {
+        switch (l) {
+            case REDUCED: return RocketAnimConfig.governorReducedMspt;
+            case SHORT:   return RocketAnimConfig.governorShortMspt;
+            case INSTANT: return RocketAnimConfig.governorInstantMspt;
+            default:      return 0.0D;
+        }
+    }
+
+    private static void setLevel(int l) {
+        if (l == level) return;
+        System.out.println("[GTNH Rocket Anim] Animation level " + LEVEL_NAMES[level] + " -> " + LEVEL_NAMES[l]
+                           + " (MSPT " + String.format("%.1f", mspt) + ")");
+        level = l;
+    }
+
+    // ========== QUERIES ==========
+
+    public static int level() {
+        return level;
+    }
+
+    public static String levelName() {
+        return LEVEL_NAMES[level];
+    }
+
+    public static double mspt() {
+        return mspt;
+    }
+
+    /** Whether flight-plan corrections are sent. */
+    public static boolean sendCorrections() {
+        return level < REDUCED;
+    }
+
+    /** Whether new flights may animate at all. */
+    public static boolean allowNewFlights() {
+        return level < INSTANT;
+    }
+
+    /** Altitude at which a takeoff starting at startY ends. */
+    public static int takeoffThreshold(double startY) {
+        int full = RocketAnimConfig.takeoffAltitudeThreshold;
+        if (level < SHORT || !(startY < full)) return full;
+        return (int) Math.ceil(startY + (full - startY) * SHORT_FACTOR);
+    }
+
+    /** Height above the pad at which arriving rockets start their landing. */
+    public static int landingSpawnHeight() {
+        int full = RocketAnimConfig.landingSpawnHeight;
+        return level < SHORT ? full : (int) (full * SHORT_FACTOR);
+    }
+}
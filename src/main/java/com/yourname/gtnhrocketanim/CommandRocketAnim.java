@@ -0,0 +1,60 @@
+package com.yourname.gtnhrocketanim;
+
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.util.ChatComponentText;
+
+/**
+ * /rocketanim stats — prints the mod's live gauges for server admins.
+ * Registered from RocketAnimMod.serverStarting().
+ */
+public class CommandRocketAnim extends CommandBase {
+
+    @Override
+    public String getCommandName() {
+        return "rocketanim";
+    }
+
+    @Override
+    public String getCommandUsage(ICommandSender sender) {
+        return "/rocketanim stats";
+    }
+
+    @Override
+    public int getRequiredPermissionLevel() {
+        return 2;
+    }
+
+    @Override
+    public void processCommand(ICommandSender sender, String[] args) {
+        if (args.length == 0 || "stats".equalsIgnoreCase(args[0])) {
+            send(sender, "[GTNH Rocket Anim] tracked rocket states: server=" + RocketStateTracker.serverSize()
+                    + " client=" + RocketStateTracker.clientSize()
+                    + " (cap " + RocketAnimConfig.maxTrackedRockets + " per side"
+                    + ", overflow evictions " + RocketStateTracker.getOverflowEvictions() + ")");
+            send(sender, "[GTNH Rocket Anim] simulated flights: " + FlightSimulator.activeFlights()
+                    + " (cap " + RocketAnimConfig.maxFlightsPerDimension + " per dimension, "
+                    + RocketAnimConfig.maxFlightsTotal + " total, 0 = none)"
+                    + ", over cap " + FlightSimulator.getOverCap()
+                    + ", fast-forwarded (unobserved) " + FlightSimulator.getFastForwarded());
+            send(sender, "[GTNH Rocket Anim] noclip corridors: " + FlightSimulator.getCorridorsClear()
+                    + " clear, " + FlightSimulator.getCorridorsInvalidated() + " invalidated by block changes");
+            send(sender, "[GTNH Rocket Anim] landing pads indexed: " + LandingPadIndex.size());
+            send(sender, "[GTNH Rocket Anim] destination preloads: " + DestinationPreloader.getPreloaded()
+                    + ", chunk tickets held " + DestinationPreloader.activeTickets()
+                    + ", timed out " + DestinationPreloader.getTimedOut());
+            send(sender, "[GTNH Rocket Anim] touchdown bursts skipped (unobserved): "
+                    + RocketParticles.getTouchdownsCulled());
+            send(sender, "[GTNH Rocket Anim] animation level: " + AnimationGovernor.levelName()
+                    + " (MSPT " + String.format("%.1f", AnimationGovernor.mspt())
+                    + (RocketAnimConfig.governorEnabled ? ")" : ", governor off)"));
+            return;
+        }
+        throw new WrongUsageException(getCommandUsage(sender));
+    }
+
+    private static void send(ICommandSender sender, String msg) {
+        sender.addChatMessage(new ChatComponentText(msg));
+    }
+}
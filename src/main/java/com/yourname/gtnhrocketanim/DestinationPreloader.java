@@ -0,0 +1,213 @@
+package com.yourname.gtnhrocketanim;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.ChunkCoordIntPair;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+import net.minecraftforge.common.ForgeChunkManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Loads a rocket's destination before GC teleports it there.
+ *
+ * onReachAtmosphere moves the rocket to its destination pad the moment the
+ * takeoff reaches its threshold, and that pad's chunk — or its whole
+ * dimension — used to load synchronously right then.  The takeoff plan tells
+ * us when that moment will come, so once a takeoff is
+ * RocketAnimConfig.preloadAtProgress of the way up the tick hook calls
+ * preload():
+ *   - the destination is resolved the way GC will (EntityAutoRocket.setTarget)
+ *     unless targetVec is already set,
+ *   - the destination world is initialised (worldServerForDimension),
+ *   - the pad's chunk is queued on Forge's async chunk loader and kept loaded
+ *     by a ForgeChunkManager ticket.
+ * Each entry remembers the UUIDs of the rockets that preloaded it (GC's
+ * dimension transfer gives the arriving rocket a new entity but keeps its
+ * UUID).  When one of them starts landing on that pad it takes over its hold
+ * (arrived) and drops it when the landing ends for any reason — touchdown,
+ * handed to GC over the flight cap, aborted, or the rocket removed
+ * (landingEnded).  Other rockets landing there take no hold, so they cannot
+ * release a chunk another rocket is still flying to.  Otherwise the ticket
+ * goes after TICKET_TIMEOUT_NANOS, or when its world unloads.
+ * Tickets are not meant to survive a restart: any Forge hands back on world
+ * load are released straight away.
+ *
+ * Server thread only.
+ */
+public final class DestinationPreloader implements ForgeChunkManager.LoadingCallback {
+
+    /** Longest a destination chunk is held: the rest of the takeoff plus a landing at low TPS. */
+    private static final long TICKET_TIMEOUT_NANOS = 120L * 1000000000L;
+
+    private static final Runnable NO_CALLBACK = new Runnable() {
+        @Override public void run() {}
+    };
+
+    private static final class Preload {
+        final int dimension, chunkX, chunkZ;
+        final ForgeChunkManager.Ticket ticket;
+        /** Rockets that preloaded this entry and have not finished landing. */
+        int  rockets;
+        /** Of those, the ones that have not started landing yet. */
+        final List<UUID> expected = new ArrayList<>(2);
+        long expiresAt;
+
+        Preload(int dimension, int chunkX, int chunkZ, ForgeChunkManager.Ticket ticket) {
+            this.dimension = dimension;
+            this.chunkX    = chunkX;
+            this.chunkZ    = chunkZ;
+            this.ticket    = ticket;
+        }
+    }
+
+    private static final List<Preload> ACTIVE = new ArrayList<>();
+
+    private static long preloaded;
+    private static long timedOut;
+
+    // ========== PRELOAD ==========
+
+    /**
+     * Resolves the rocket's destination, initialises its world and starts
+     * loading the pad chunk.  Marks the FlightState so it runs once per takeoff.
+     */
+    public static void preload(Entity rocket, FlightState state, boolean hasTarget,
+                               int targetX, int targetZ, int destFreq) {
+        state.destinationPreloaded = true;
+        if (!RocketAnimConfig.preloadDestination) return;
+
+        if (!hasTarget) {
+            if (destFreq < 0 || !GCAccessors.setTarget(rocket, destFreq)
+                    || !(rocket instanceof ICargoRocketAccess)
+                    || !((ICargoRocketAccess) rocket).gtnhrocketanim$hasTarget()) return;
+            targetX = ((ICargoRocketAccess) rocket).gtnhrocketanim$getTargetX();
+            targetZ = ((ICargoRocketAccess) rocket).gtnhrocketanim$getTargetZ();
+        }
+
+        int here = rocket.worldObj.provider != null ? rocket.worldObj.provider.dimensionId : 0;
+        int dim  = GCAccessors.targetDimension(rocket, here);
+        MinecraftServer server = MinecraftServer.getServer();
+        WorldServer w = server != null ? server.worldServerForDimension(dim) : null;
+        if (w == null) return;
+
+        int cx = targetX >> 4;
+        int cz = targetZ >> 4;
+        long expiresAt = FlightPlan.clock() + TICKET_TIMEOUT_NANOS;
+
+        Preload p = find(dim, cx, cz);
+        if (p == null) {
+            if (w.theChunkProviderServer != null) w.theChunkProviderServer.loadChunk(cx, cz, NO_CALLBACK);
+            ForgeChunkManager.Ticket ticket =
+                    ForgeChunkManager.requestTicket(RocketAnimMod.instance, w, ForgeChunkManager.Type.NORMAL);
+            if (ticket == null) {
+                if (RocketAnimConfig.debugLogging) {
+                    System.out.println("[GTNH Rocket Anim] No chunk ticket left for destination preload in dim " + dim);
+                }
+                return;
+            }
+            ForgeChunkManager.forceChunk(ticket, new ChunkCoordIntPair(cx, cz));
+            p = new Preload(dim, cx, cz, ticket);
+            ACTIVE.add(p);
+        }
+        UUID id = rocket.getUniqueID();
+        if (!p.expected.contains(id)) {
+            p.expected.add(id);
+            p.rockets++;
+        }
+        p.expiresAt = expiresAt;
+        preloaded++;
+
+        if (RocketAnimConfig.debugLogging) {
+            System.out.println("[GTNH Rocket Anim] Preloading destination dim=" + dim
+                               + " chunk=" + cx + "," + cz + " for entity=" + rocket.getEntityId());
+        }
+    }
+
+    // ========== RELEASE ==========
+
+    /**
+     * A landing towards the pad at (targetX, targetZ) began.  If this rocket
+     * preloaded that chunk its FlightState holds it until landingEnded.
+     */
+    public static void arrived(World w, Entity rocket, FlightState state, int targetX, int targetZ) {
+        if (state.holdsDestination || ACTIVE.isEmpty()) return;
+        Preload p = find(dim(w), targetX >> 4, targetZ >> 4);
+        if (p == null || !p.expected.remove(rocket.getUniqueID())) return;
+        state.holdsDestination = true;
+        state.heldPadX         = targetX;
+        state.heldPadZ         = targetZ;
+    }
+
+    /** The rocket's landing is over, however it ended: drops its hold on the pad chunk. */
+    public static void landingEnded(World w, FlightState state) {
+        if (!state.holdsDestination) return;
+        state.holdsDestination = false;
+        if (w == null || ACTIVE.isEmpty()) return;
+        Preload p = find(dim(w), state.heldPadX >> 4, state.heldPadZ >> 4);
+        if (p != null && --p.rockets <= 0) release(p);
+    }
+
+    /** Releases tickets that outlived their flights.  Called once per server tick. */
+    static void tick(long now) {
+        for (int i = ACTIVE.size() - 1; i >= 0; i--) {
+            Preload p = ACTIVE.get(i);
+            if (now - p.expiresAt >= 0) {
+                timedOut++;
+                release(p);
+            }
+        }
+    }
+
+    /** Forge drops a world's tickets with it; forget them. */
+    public static void unloadWorld(World w) {
+        int dim = dim(w);
+        for (int i = ACTIVE.size() - 1; i >= 0; i--) {
+            if (ACTIVE.get(i).dimension == dim) ACTIVE.remove(i);
+        }
+    }
+
+    private static void release(Preload p) {
+        ACTIVE.remove(p);
+        ForgeChunkManager.releaseTicket(p.ticket);
+    }
+
+    private static int dim(World w) {
+        return w.provider != null ? w.provider.dimensionId : 0;
+    }
+
+    private static Preload find(int dim, int cx, int cz) {
+        for (int i = 0, n = ACTIVE.size(); i < n; i++) {
+            Preload p = ACTIVE.get(i);
+            if (p.dimension == dim && p.chunkX == cx && p.chunkZ == cz) return p;
+        }
+        return null;
+    }
+
+    // ========== STATS ==========
+
+    public static int activeTickets() {
+        return ACTIVE.size();
+    }
+
+    public static long getPreloaded() {
+        return preloaded;
+    }
+
+    public static long getTimedOut() {
+        return timedOut;
+    }
+
+    // ========== FORGE CALLBACK ==========
+
+    /** Tickets left over from before a restart point at flights that no longer exist. */
+    @Override
+    public void ticketsLoaded(List<ForgeChunkManager.Ticket> tickets, World world) {
+        for (ForgeChunkManager.Ticket ticket : tickets) {
+            ForgeChunkManager.releaseTicket(ticket);
+        }
+    }
+}
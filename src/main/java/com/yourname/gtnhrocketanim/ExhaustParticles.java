@@ -0,0 +1,210 @@
+package com.yourname.gtnhrocketanim;
+
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import cpw.mods.fml.relauncher.Side;
+import cpw.mods.fml.relauncher.SideOnly;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.ActiveRenderInfo;
+import net.minecraft.client.renderer.Tessellator;
+import net.minecraft.client.renderer.entity.RenderManager;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.world.World;
+import net.minecraftforge.client.event.RenderWorldLastEvent;
+import org.lwjgl.opengl.GL11;
+
+import java.util.Random;
+
+/**
+ * The mod's own exhaust particles: a fixed pool drawn in one batch.
+ *
+ * Going through GC's particle proxy costs two reflective Vector3
+ * constructions, a varargs array, a proxy call and an EntityFX per particle —
+ * up to 18 of each per rocket per tick at full thrust.  Here a particle is one
+ * slot in a ring buffer of parallel arrays (position, previous position,
+ * motion, floor, age); spawning writes a slot and overwrites the oldest
+ * particle when the pool is full.  All live particles are advanced once per
+ * client tick and drawn in a single Tessellator pass from RenderWorldLastEvent,
+ * with vanilla's smoke sprites from particles.png.
+ *
+ * Nothing is allocated after the pool is created.  Particles do not collide
+ * with blocks; each carries the ground height found below the rocket when it
+ * was spawned and spreads out over it.
+ *
+ * RocketAnimConfig.useGCParticles switches back to GC's EntityFX.
+ * Registered on both event buses from RocketAnimMod.preInit(), client side only.
+ */
+@SideOnly(Side.CLIENT)
+public final class ExhaustParticles {
+
+    public static final int KIND_IDLE     = 0;
+    public static final int KIND_LAUNCHED = 1;
+
+    /** Motion is passed in GC's launch-flame units; this turns it into blocks per tick. */
+    private static final float MOTION_SCALE = 0.25F;
+    private static final float DRAG         = 0.9F;
+    private static final float BUOYANCY     = 0.004F;
+
+    private static final ResourceLocation PARTICLE_TEXTURES =
+            new ResourceLocation("textures/particle/particles.png");
+
+    private static final Random rand = new Random();
+
+    // ---- Pool (struct of arrays, ring buffer) ----
+    private static final int POOL_SIZE = RocketAnimConfig.exhaustPoolSize;
+    private static final float[] x  = new float[POOL_SIZE], y  = new float[POOL_SIZE], z  = new float[POOL_SIZE];
+    private static final float[] px = new float[POOL_SIZE], py = new float[POOL_SIZE], pz = new float[POOL_SIZE];
+    private static final float[] mx = new float[POOL_SIZE], my = new float[POOL_SIZE], mz = new float[POOL_SIZE];
+    private static final float[] floor = new float[POOL_SIZE];
+    private static final byte[]  kind  = new byte[POOL_SIZE];
+    private static final short[] age   = new short[POOL_SIZE];
+    private static final short[] life  = new short[POOL_SIZE];
+
+    /** Next slot to write; the live window is the count slots before it. */
+    private static int head;
+    private static int count;
+
+    /** World the pooled particles belong to; the pool is dropped when it changes. */
+    private static World world;
+
+    // ========== SPAWN ==========
+
+    /**
+     * Adds one exhaust particle.  Coordinates are absolute; (motionX, motionY,
+     * motionZ) in GC launch-flame units; groundY is where it stops falling.
+     */
+    public static void spawn(int particleKind, double posX, double posY, double posZ,
+                             double motionX, double motionY, double motionZ, float groundY) {
+        int i = head;
+        head = head + 1 == POOL_SIZE ? 0 : head + 1;
+        if (count < POOL_SIZE) count++;
+
+        x[i] = px[i] = (float) posX;
+        y[i] = py[i] = (float) posY;
+        z[i] = pz[i] = (float) posZ;
+        mx[i]    = (float) motionX * MOTION_SCALE;
+        my[i]    = (float) motionY * MOTION_SCALE;
+        mz[i]    = (float) motionZ * MOTION_SCALE;
+        floor[i] = groundY;
+        kind[i]  = (byte) particleKind;
+        age[i]   = 0;
+        life[i]  = (short) ((particleKind == KIND_LAUNCHED ? 24 : 16) + rand.nextInt(8));
+    }
+
+    /** Top of the first solid block at most 24 blocks below (x, y, z), or -infinity. */
+    public static float groundBelow(World w, double posX, double posY, double posZ) {
+        int bx = (int) Math.floor(posX), bz = (int) Math.floor(posZ);
+        int by = (int) Math.floor(posY);
+        for (int yy = by; yy >= 0 && yy > by - 24; yy--) {
+            if (!w.isAirBlock(bx, yy, bz)) return yy + 1.0F;
+        }
+        return Float.NEGATIVE_INFINITY;
+    }
+
+    public static int liveCount() {
+        return count;
+    }
+
+    // ========== UPDATE ==========
+
+    @SubscribeEvent
+    public void onClientTick(TickEvent.ClientTickEvent event) {
+        if (event.phase != TickEvent.Phase.END) return;
+
+        World w = Minecraft.getMinecraft().theWorld;
+        if (w != world) {
+            world = w;
+            count = 0;
+        }
+        if (count == 0) return;
+
+        for (int n = 0, i = oldest(); n < count; n++, i = i + 1 == POOL_SIZE ? 0 : i + 1) {
+            if (age[i] >= life[i]) continue;
+            px[i] = x[i];
+            py[i] = y[i];
+            pz[i] = z[i];
+            x[i] += mx[i];
+            y[i] += my[i];
+            z[i] += mz[i];
+            if (y[i] < floor[i]) {
+                // Hit the ground: stop falling and push outwards along it
+                y[i]  = floor[i];
+                mx[i] += my[i] * -0.3F * (mx[i] >= 0 ? 1 : -1);
+                mz[i] += my[i] * -0.3F * (mz[i] >= 0 ? 1 : -1);
+                my[i] = 0.0F;
+            }
+            mx[i] *= DRAG;
+            my[i]  = my[i] * DRAG + BUOYANCY;
+            mz[i] *= DRAG;
+            age[i]++;
+        }
+
+        // Lifetimes differ by a few ticks, so only trim expired particles off the old end
+        while (count > 0 && age[oldest()] >= life[oldest()]) count--;
+    }
+
+    // ========== RENDER ==========
+
+    @SubscribeEvent
+    public void onRenderWorldLast(RenderWorldLastEvent event) {
+        if (count == 0) return;
+
+        float partial = event.partialTicks;
+        float rX  = ActiveRenderInfo.rotationX;
+        float rXZ = ActiveRenderInfo.rotationXZ;
+        float rZ  = ActiveRenderInfo.rotationZ;
+        float rYZ = ActiveRenderInfo.rotationYZ;
+        float rXY = ActiveRenderInfo.rotationXY;
+        double camX = RenderManager.renderPosX;
+        double camY = RenderManager.renderPosY;
+        double camZ = RenderManager.renderPosZ;
+
+        Minecraft.getMinecraft().getTextureManager().bindTexture(PARTICLE_TEXTURES);
+        // Put back whatever state the renderer had for later RenderWorldLastEvent subscribers
+        GL11.glPushAttrib(GL11.GL_ENABLE_BIT | GL11.GL_COLOR_BUFFER_BIT | GL11.GL_DEPTH_BUFFER_BIT);
+        GL11.glDepthMask(false);
+        GL11.glEnable(GL11.GL_BLEND);
+        GL11.glBlendFunc(GL11.GL_SRC_ALPHA, GL11.GL_ONE);
+        GL11.glAlphaFunc(GL11.GL_GREATER, 0.003921569F);
+        GL11.glDisable(GL11.GL_LIGHTING);
+
+        Tessellator tess = Tessellator.instance;
+        tess.startDrawingQuads();
+        tess.setBrightness(0xF000F0);
+        for (int n = 0, i = oldest(); n < count; n++, i = i + 1 == POOL_SIZE ? 0 : i + 1) {
+            if (age[i] >= life[i]) continue;
+            float t = (age[i] + partial) / life[i];
+            if (t > 1.0F) t = 1.0F;
+
+            // Hot and small at the nozzle, growing and fading as it cools
+            float size = (kind[i] == KIND_LAUNCHED ? 0.35F : 0.25F) * (1.0F + 2.0F * t);
+            float r = 1.0F;
+            float g = 0.75F - 0.45F * t;
+            float b = 0.35F - 0.3F * t;
+            tess.setColorRGBA_F(r, g, b, 1.0F - t);
+
+            // Vanilla smoke sprites 7..0 along the top row of particles.png
+            int frame = 7 - (int) (t * 7.99F);
+            double u0 = frame / 16.0D, u1 = u0 + 0.0624375D;
+            double v0 = 0.0D,          v1 = 0.0624375D;
+
+            double cx = px[i] + (x[i] - px[i]) * partial - camX;
+            double cy = py[i] + (y[i] - py[i]) * partial - camY;
+            double cz = pz[i] + (z[i] - pz[i]) * partial - camZ;
+            tess.addVertexWithUV(cx - rX * size - rYZ * size, cy - rXZ * size, cz - rZ * size - rXY * size, u1, v1);
+            tess.addVertexWithUV(cx - rX * size + rYZ * size, cy + rXZ * size, cz - rZ * size + rXY * size, u1, v0);
+            tess.addVertexWithUV(cx + rX * size + rYZ * size, cy + rXZ * size, cz + rZ * size + rXY * size, u0, v0);
+            tess.addVertexWithUV(cx + rX * size - rYZ * size, cy - rXZ * size, cz + rZ * size - rXY * size, u0, v1);
+        }
+        tess.draw();
+
+        GL11.glPopAttrib();
+    }
+
+    // ------------------------------------------------------------------
+
+    private static int oldest() {
+        int i = head - count;
+        return i < 0 ? i + POOL_SIZE : i;
+    }
+}
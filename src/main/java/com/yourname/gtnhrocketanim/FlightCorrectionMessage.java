@@ -0,0 +1,59 @@
+package com.yourname.gtnhrocketanim;
+
+import cpw.mods.fml.common.network.simpleimpl.IMessage;
+import cpw.mods.fml.common.network.simpleimpl.IMessageHandler;
+import cpw.mods.fml.common.network.simpleimpl.MessageContext;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Server → client: re-anchors an active takeoff plan after the server rocket
+ * fell behind its clock (see FlightSimulator.stepTakeoff).  20 bytes.
+ */
+public class FlightCorrectionMessage implements IMessage {
+
+    int    entityId;
+    int    planTick;
+    double planY;
+    float  speed;
+
+    public FlightCorrectionMessage() {}
+
+    FlightCorrectionMessage(int entityId, int planTick, double planY, double speed) {
+        this.entityId = entityId;
+        this.planTick = planTick;
+        this.planY    = planY;
+        this.speed    = (float) speed;
+    }
+
+    @Override
+    public void fromBytes(ByteBuf buf) {
+        entityId  = buf.readInt();
+        planTick  = buf.readInt();
+        planY     = buf.readDouble();
+        speed     = buf.readFloat();
+    }
+
+    @Override
+    public void toBytes(ByteBuf buf) {
+        buf.writeInt(entityId);
+        buf.writeInt(planTick);
+        buf.writeDouble(planY);
+        buf.writeFloat(speed);
+    }
+
+    /** Client thread: ignored unless the rocket has a takeoff plan to correct. */
+    void apply(FlightState state) {
+        if (state.planPhase != FlightState.PHASE_TAKEOFF) return;
+        state.planY     = planY;
+        state.planSpeed = speed;
+        FlightPlan.anchorClient(state, planTick, FlightPlan.clock());
+    }
+
+    public static class Handler implements IMessageHandler<FlightCorrectionMessage, IMessage> {
+        @Override
+        public IMessage onMessage(FlightCorrectionMessage message, MessageContext ctx) {
+            FlightPlanClient.enqueue(message);
+            return null;
+        }
+    }
+}
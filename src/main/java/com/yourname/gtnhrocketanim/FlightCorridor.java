@@ -0,0 +1,81 @@
+package com.yourname.gtnhrocketanim;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.util.AxisAlignedBB;
+import net.minecraft.world.World;
+
+/**
+ * The column of blocks a rocket flies through during a takeoff or landing.
+ *
+ * FlightSimulator checks it once when the flight starts.  If every block in it
+ * is air the rocket flies with Entity.noClip set, so GC's moveEntity call
+ * skips the per-tick AABB sweep against every block it passes (up to 20 a tick
+ * for the fast tiers).  A block change inside the column
+ * (FlightSimulator.blockChanged) clears the flag again and the rocket
+ * collides normally for the rest of the flight.
+ *
+ * The check is deliberately strict: anything that is not air, a torch
+ * included, keeps normal collision on.
+ */
+final class FlightCorridor {
+
+    /** Landing: the last blocks above the pad are flown with collision on. */
+    static final double FINAL_APPROACH = 2.0D;
+
+    private FlightCorridor() {}
+
+    /**
+     * Bounds of a takeoff column: the rocket's footprint from the block above
+     * its feet (a launch pad is not a full block) to the threshold plus its height.
+     */
+    static int[] takeoff(Entity rocket, int threshold) {
+        AxisAlignedBB box = rocket.boundingBox;
+        double height = box != null ? box.maxY - box.minY : 1.0D;
+        double minY   = box != null ? box.minY : rocket.posY;
+        return bounds(rocket, rocket.posX, rocket.posZ, minY + 1.0D, threshold + height);
+    }
+
+    /** Bounds of a landing column: from FINAL_APPROACH above the pad up to the rocket, covering its drift to the pad. */
+    static int[] landing(Entity rocket, double padX, double padY, double padZ) {
+        AxisAlignedBB box = rocket.boundingBox;
+        double height = box != null ? box.maxY - box.minY : 1.0D;
+        return bounds(rocket, padX, padZ, padY + FINAL_APPROACH, rocket.posY + height);
+    }
+
+    /**
+     * Box (minX, minY, minZ, maxX, maxY, maxZ, inclusive block coordinates)
+     * covering the rocket's footprint at its current X/Z and at (toX, toZ),
+     * clamped to the world's height.
+     */
+    private static int[] bounds(Entity rocket, double toX, double toZ, double fromY, double toY) {
+        AxisAlignedBB box = rocket.boundingBox;
+        double hx = box != null ? (box.maxX - box.minX) / 2 : 0.5D;
+        double hz = box != null ? (box.maxZ - box.minZ) / 2 : 0.5D;
+        int top = rocket.worldObj.getHeight() - 1;
+        return new int[] {
+            floor(Math.min(rocket.posX, toX) - hx),
+            Math.max(floor(fromY), 0),
+            floor(Math.min(rocket.posZ, toZ) - hz),
+            floor(Math.max(rocket.posX, toX) + hx),
+            Math.min(floor(toY), top),
+            floor(Math.max(rocket.posZ, toZ) + hz)
+        };
+    }
+
+    /** True if every block in the bounds is air (an empty box, e.g. above build height, is clear). */
+    static boolean isClear(World w, int[] b) {
+        for (int y = b[1]; y <= b[4]; y++) {
+            for (int x = b[0]; x <= b[3]; x++) {
+                for (int z = b[2]; z <= b[5]; z++) {
+                    if (!w.isAirBlock(x, y, z)) return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static int floor(double v) {
+        int i = (int) v;
+        return v < i ? i - 1 : i;
+    }
+}
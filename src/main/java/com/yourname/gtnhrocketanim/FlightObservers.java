@@ -0,0 +1,46 @@
+package com.yourname.gtnhrocketanim;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.server.management.PlayerManager;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+
+import java.util.List;
+
+/**
+ * Who can see a rocket.
+ *
+ * Mirrors the entity tracker's rule: a player sees an entity when it is
+ * within range on X/Z (RocketAnimConfig.observerRange) and the player is
+ * watching the entity's chunk.  Used to address flight-plan packets and to
+ * decide when a flight can be fast-forwarded (see FlightSimulator).
+ */
+public final class FlightObservers {
+
+    private FlightObservers() {}
+
+    /** True if any player in the rocket's world can see it. */
+    public static boolean isObserved(Entity rocket) {
+        World w = rocket.worldObj;
+        if (w == null) return false;
+        List<?> players = w.playerEntities;
+        for (int i = 0, n = players.size(); i < n; i++) {
+            Object o = players.get(i);
+            if (o instanceof EntityPlayerMP && canSee((EntityPlayerMP) o, rocket)) return true;
+        }
+        return false;
+    }
+
+    public static boolean canSee(EntityPlayerMP player, Entity rocket) {
+        double range = RocketAnimConfig.observerRange;
+        double dx = player.posX - rocket.posX;
+        double dz = player.posZ - rocket.posZ;
+        if (dx < -range || dx > range || dz < -range || dz > range) return false;
+
+        if (!(rocket.worldObj instanceof WorldServer)) return true;
+        PlayerManager chunks = ((WorldServer) rocket.worldObj).getPlayerManager();
+        return chunks == null || chunks.isPlayerWatchingChunk(player,
+                (int) Math.floor(rocket.posX) >> 4, (int) Math.floor(rocket.posZ) >> 4);
+    }
+}
@@ -0,0 +1,168 @@
+package com.yourname.gtnhrocketanim;
+
+import net.minecraft.entity.Entity;
+
+/**
+ * Deterministic takeoff model shared by server and client.
+ *
+ * When a takeoff starts the server sends one FlightPlanMessage (tier, start Y,
+ * timeSinceLaunch, altitude threshold and the TrajectoryProfile parameters).
+ * From then on both sides integrate the same step function from the same
+ * inputs, so the client puts the rocket where the server has it without a
+ * velocity packet every tick.
+ *
+ * Steps are paced by the wall clock, not by ticks: a step is 1/20 s
+ * (STEP_NANOS) and each side takes however many steps are due since the plan
+ * started.  At 20 TPS that is one step per tick as before; at 12 TPS the server
+ * takes one or two per tick, so a takeoff lasts the same number of seconds
+ * whatever the tick rate.  Catch-up is bounded by
+ * RocketAnimConfig.maxCatchUpSteps per tick so the rocket never jumps far.
+ * Below 20 / maxCatchUpSteps TPS, or after a stall, the server gives up the
+ * lost time (the flight gets longer) and sends a FlightCorrectionMessage once
+ * the clients' clock-based position would be off by more than
+ * RocketAnimConfig.flightPlanTolerance blocks.
+ *
+ * On the server the integration itself runs in FlightSimulator, batched per
+ * world; this class holds the model both sides share.
+ *
+ * Landing only gets the plan packet: it tells the client the tier and curve so
+ * LandingHandler can predict the same descent motion between tracker updates.
+ *
+ * Clients that join mid-flight, or run without this mod, have no plan and keep
+ * following the entity tracker's position updates as before.
+ */
+public final class FlightPlan {
+
+    /** Length of one plan step: one 20 TPS tick. */
+    public static final long STEP_NANOS = 50000000L;
+
+    /** Most steps a client takes in one tick (first tick after a late plan packet). */
+    private static final int MAX_CLIENT_CATCHUP = 200;
+
+    private FlightPlan() {}
+
+    // ========== SERVER ==========
+
+    /**
+     * Starts a takeoff plan at state.takeoffStartY and hands it to the world's
+     * FlightSimulator.  If nobody is watching it is fast-forwarded; otherwise
+     * it is announced to watching players and takes its first step right away.
+     */
+    public static void beginTakeoff(Entity rocket, FlightState state, CargoRocketTier tier,
+                                    float timeSinceLaunch, long now) {
+        state.planProfile    = TrajectoryProfile.of(tier);
+        state.planPhase      = FlightState.PHASE_TAKEOFF;
+        state.planStartNanos = now;
+        state.planStartTime  = timeSinceLaunch;
+        state.planThreshold  = AnimationGovernor.takeoffThreshold(state.takeoffStartY);
+        state.planTick       = 0;
+        state.planY          = state.takeoffStartY;
+        state.planSpeed      = 0.0D;
+        FlightPlanMessage plan = new FlightPlanMessage(rocket, state, tier, 0, 0, 0);
+
+        // Observer check first: a flight completed on this tick is never announced
+        FlightSimulator sim = FlightSimulator.forWorld(rocket.worldObj);
+        int slot = sim.addTakeoff(rocket, state);
+        if (!sim.fastForwardIfUnobserved(slot)) {
+            RocketAnimNetwork.sendToWatchers(rocket, plan);
+            sim.stepTakeoff(slot, now, RocketAnimConfig.maxCatchUpSteps);
+        }
+    }
+
+    /**
+     * Starts a landing plan and hands it to the world's FlightSimulator.  If
+     * nobody is watching it is fast-forwarded; otherwise it is announced to
+     * watching players and this tick's descent motion is applied.
+     */
+    public static void beginLanding(Entity rocket, FlightState state, CargoRocketTier tier,
+                                    int targetX, int targetY, int targetZ, long now) {
+        state.planProfile    = TrajectoryProfile.of(tier);
+        state.planPhase      = FlightState.PHASE_LANDING;
+        state.planStartNanos = now;
+        state.planTick       = 0;
+        state.planY          = rocket.posY;
+        state.planSpeed      = 0.0D;
+        FlightPlanMessage plan = new FlightPlanMessage(rocket, state, tier, targetX, targetY, targetZ);
+
+        // Observer check first: a flight completed on this tick is never announced
+        FlightSimulator sim = FlightSimulator.forWorld(rocket.worldObj);
+        int slot = sim.addLanding(rocket, state, targetX, targetY, targetZ, now);
+        if (!sim.fastForwardIfUnobserved(slot)) {
+            RocketAnimNetwork.sendToWatchers(rocket, plan);
+            LandingHandler.applyDescentMotion(rocket, state.planProfile,
+                    targetX + 0.5D, targetY + 1.0D, targetZ + 0.5D, 1.0D);
+        }
+    }
+
+    // ========== CLIENT ==========
+
+    /** Client: installs an announced plan whose first stepsDone steps the server already took. */
+    static void anchorClient(FlightState state, int stepsDone, long now) {
+        state.planTick       = stepsDone;
+        state.planStartNanos = now - stepsDone * STEP_NANOS;
+    }
+
+    /** Client: catches up with its own clock and moves the rocket there. */
+    public static void stepClient(Entity rocket, FlightState state, long now) {
+        long steps = stepsDue(state.planStartNanos, now) - state.planTick;
+        if (steps > MAX_CLIENT_CATCHUP) steps = MAX_CLIENT_CATCHUP;
+        for (int i = 0; i < steps && state.planY < state.planThreshold; i++) {
+            double speed = ascentSpeed(state.planProfile, state.takeoffStartY, state.planThreshold,
+                                       state.planY, state.planStartTime + state.planTick);
+            state.planY    += speed;
+            state.planSpeed = speed;
+            state.planTick++;
+        }
+        rocket.setPosition(rocket.posX, state.planY, rocket.posZ);
+        rocket.motionY = state.planSpeed;
+    }
+
+    // ========== CLOCK ==========
+
+    /** The clock plans are paced by. */
+    public static long clock() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Steps that should have been taken by {@code now}: step 1 is due at
+     * {@code start}, then one per STEP_NANOS.  Rounded to the nearest step so
+     * normal tick jitter does not alternate between zero and two steps.
+     */
+    static long stepsDue(long start, long now) {
+        return (now - start + STEP_NANOS / 2) / STEP_NANOS + 1;
+    }
+
+    /**
+     * Steps elapsed between two clock readings (fractional, 1.0 at 20 TPS),
+     * capped at maxSteps.  Used to scale per-tick landing motion.
+     */
+    static double stepScale(long last, long now, int maxSteps) {
+        double steps = (now - last) / (double) STEP_NANOS;
+        if (!(steps > 0.0D)) return 0.0D;
+        return Math.min(steps, maxSteps);
+    }
+
+    // ========== SHARED MODEL ==========
+
+    /**
+     * Upward speed for the step taken at plan time {@code time} from height {@code y}:
+     *   (curve(progress) + additive time shift) × 2 s spool-up ramp, capped at the tier max.
+     * Time is the plan's own step count, not GC's timeSinceLaunch, so server
+     * and client evaluate exactly the same numbers.
+     */
+    public static double ascentSpeed(TrajectoryProfile profile, double startY, int threshold,
+                                     double y, float time) {
+        double totalDistance = threshold - startY;
+
+        double progress = (totalDistance > 0) ? (y - startY) / totalDistance : 0;
+        if (progress < 0) progress = 0;
+
+        double curveSpeed    = profile.ascentSpeed(progress);
+        double additiveShift = (time / 20.0) * profile.baseSpeed * 6.25;
+        double launchRamp    = Math.min(time / 40.0, 1.0);
+
+        double upwardSpeed = (curveSpeed + additiveShift) * launchRamp;
+        return upwardSpeed > profile.maxAscentSpeed ? profile.maxAscentSpeed : upwardSpeed;
+    }
+}
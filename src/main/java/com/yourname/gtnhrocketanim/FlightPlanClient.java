@@ -0,0 +1,50 @@
+package com.yourname.gtnhrocketanim;
+
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import cpw.mods.fml.common.network.simpleimpl.IMessage;
+import net.minecraft.client.Minecraft;
+import net.minecraft.entity.Entity;
+import net.minecraft.world.World;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Client side of the flight-plan channel.
+ *
+ * SimpleNetworkWrapper handlers run on the netty thread in 1.7.10, so the
+ * message handlers only queue; the queue is drained at the start of each
+ * client tick, before entities update, into the target rocket's FlightState.
+ * Messages for entities the client does not know (yet) are dropped — that
+ * rocket simply follows the entity tracker like a rocket without a plan.
+ *
+ * Registered on the FML bus from RocketAnimMod.preInit(), client side only.
+ */
+public final class FlightPlanClient {
+
+    private static final ConcurrentLinkedQueue<IMessage> PENDING = new ConcurrentLinkedQueue<>();
+
+    static void enqueue(IMessage message) {
+        PENDING.add(message);
+    }
+
+    @SubscribeEvent
+    public void onClientTick(TickEvent.ClientTickEvent event) {
+        if (event.phase != TickEvent.Phase.START || PENDING.isEmpty()) return;
+
+        World w = Minecraft.getMinecraft().theWorld;
+        IMessage message;
+        while ((message = PENDING.poll()) != null) {
+            if (w == null) continue;
+            if (message instanceof FlightPlanMessage) {
+                FlightPlanMessage plan = (FlightPlanMessage) message;
+                Entity rocket = w.getEntityByID(plan.entityId);
+                if (rocket != null) plan.apply(RocketStateTracker.getOrCreate(rocket));
+            } else if (message instanceof FlightCorrectionMessage) {
+                FlightCorrectionMessage correction = (FlightCorrectionMessage) message;
+                Entity rocket = w.getEntityByID(correction.entityId);
+                if (rocket != null) correction.apply(RocketStateTracker.getOrCreate(rocket));
+            }
+        }
+    }
+}
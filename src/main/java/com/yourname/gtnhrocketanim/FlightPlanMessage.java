@@ -0,0 +1,113 @@
+package com.yourname.gtnhrocketanim;
+
+import cpw.mods.fml.common.network.simpleimpl.IMessage;
+import cpw.mods.fml.common.network.simpleimpl.IMessageHandler;
+import cpw.mods.fml.common.network.simpleimpl.MessageContext;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.entity.Entity;
+
+/**
+ * Server → client: a takeoff or landing has started (see FlightPlan).
+ *
+ * Carries the curve parameters rather than a curve ID so the client builds
+ * exactly the server's TrajectoryProfile even if its own config differs.
+ * 58-byte payload (59 with SimpleNetworkWrapper's discriminator byte), sent
+ * once per flight phase.
+ */
+public class FlightPlanMessage implements IMessage {
+
+    int    entityId;
+    byte   phase;
+    byte   tier;
+    double startY;
+    int    stepsDone;
+    float  startTime;
+    int    threshold;
+    int    targetX, targetY, targetZ;
+    float  baseSpeed, accelFactor, maxAscentSpeed, maxDescentSpeed, minDescentSpeed;
+
+    public FlightPlanMessage() {}
+
+    FlightPlanMessage(Entity rocket, FlightState state, CargoRocketTier tier,
+                      int targetX, int targetY, int targetZ) {
+        TrajectoryProfile p = state.planProfile;
+        this.entityId        = rocket.getEntityId();
+        this.phase           = state.planPhase;
+        this.tier            = (byte) tier.ordinal();
+        this.startY          = state.planPhase == FlightState.PHASE_TAKEOFF ? state.takeoffStartY : state.planY;
+        this.stepsDone       = state.planTick;
+        this.startTime       = state.planStartTime;
+        this.threshold       = state.planThreshold;
+        this.targetX         = targetX;
+        this.targetY         = targetY;
+        this.targetZ         = targetZ;
+        this.baseSpeed       = p.baseSpeed;
+        this.accelFactor     = p.accelFactor;
+        this.maxAscentSpeed  = p.maxAscentSpeed;
+        this.maxDescentSpeed = p.maxDescentSpeed;
+        this.minDescentSpeed = p.minDescentSpeed;
+    }
+
+    @Override
+    public void fromBytes(ByteBuf buf) {
+        entityId        = buf.readInt();
+        phase           = buf.readByte();
+        tier            = buf.readByte();
+        startY          = buf.readDouble();
+        stepsDone       = buf.readInt();
+        startTime       = buf.readFloat();
+        threshold       = buf.readInt();
+        targetX         = buf.readInt();
+        targetY         = buf.readInt();
+        targetZ         = buf.readInt();
+        baseSpeed       = buf.readFloat();
+        accelFactor     = buf.readFloat();
+        maxAscentSpeed  = buf.readFloat();
+        maxDescentSpeed = buf.readFloat();
+        minDescentSpeed = buf.readFloat();
+    }
+
+    @Override
+    public void toBytes(ByteBuf buf) {
+        buf.writeInt(entityId);
+        buf.writeByte(phase);
+        buf.writeByte(tier);
+        buf.writeDouble(startY);
+        buf.writeInt(stepsDone);
+        buf.writeFloat(startTime);
+        buf.writeInt(threshold);
+        buf.writeInt(targetX);
+        buf.writeInt(targetY);
+        buf.writeInt(targetZ);
+        buf.writeFloat(baseSpeed);
+        buf.writeFloat(accelFactor);
+        buf.writeFloat(maxAscentSpeed);
+        buf.writeFloat(maxDescentSpeed);
+        buf.writeFloat(minDescentSpeed);
+    }
+
+    /** Client thread: installs the plan in the rocket's FlightState. */
+    void apply(FlightState state) {
+        CargoRocketTier[] tiers = CargoRocketTier.values();
+        if (tier >= 0 && tier < tiers.length) state.cargoTier = tiers[tier];
+
+        state.planProfile   = new TrajectoryProfile(baseSpeed, accelFactor, maxAscentSpeed,
+                                                    maxDescentSpeed, minDescentSpeed);
+        state.planPhase     = phase;
+        state.planStartTime = startTime;
+        state.planThreshold = threshold;
+        state.planY         = startY;
+        state.planSpeed     = 0.0D;
+        FlightPlan.anchorClient(state, stepsDone, FlightPlan.clock());
+        if (phase == FlightState.PHASE_TAKEOFF) state.takeoffStartY = startY;
+    }
+
+    /** Runs on the network thread, so it only queues; FlightPlanClient applies it. */
+    public static class Handler implements IMessageHandler<FlightPlanMessage, IMessage> {
+        @Override
+        public IMessage onMessage(FlightPlanMessage message, MessageContext ctx) {
+            FlightPlanClient.enqueue(message);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,404 @@
+package com.yourname.gtnhrocketanim;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.world.World;
+
+import java.util.Arrays;
+
+/**
+ * Server-side batch integrator for every cargo rocket in flight in one world.
+ *
+ * Active flights live in parallel arrays (one slot per rocket) and are all
+ * advanced in a single loop at the start of each world tick
+ * (FlightTickEvents), before entities update:
+ *   takeoff: the plan steps due on the clock, bounded catch-up, corrections
+ *   landing: descent motion written straight into the entity, which GC's
+ *            moveEntity applies later in the same tick, exactly as before
+ * The entity tick hook then only reads the slot back (readBack), so the per-
+ * rocket work left in it is the phase checks, snap and particles.
+ *
+ * Slots are registered by FlightPlan.beginTakeoff / beginLanding and released
+ * lazily: the loop drops a slot once its rocket is dead or its FlightState no
+ * longer has a plan of that phase, swapping the last slot into the hole.
+ * FlightState.simSlot points back at the slot.
+ *
+ * With RocketAnimConfig.fastForwardUnobserved a flight nobody can see
+ * (FlightObservers) is completed at once: checked when it starts, then about
+ * once a second, staggered across slots.
+ *
+ * Each slot also holds its flight's FlightCorridor: checked when the slot is
+ * armed, the rocket flies noclip while it stays clear.
+ *
+ * Client worlds have no simulator; clients integrate their plans in the tick
+ * hook (FlightPlan.stepClient).
+ */
+public final class FlightSimulator {
+
+    private static final IntObjectMap<FlightSimulator> byDimension = new IntObjectMap<>(8);
+
+    private static final int INITIAL_SLOTS = 16;
+
+    /** World ticks between observer checks of a running flight (staggered by slot). */
+    private static final int OBSERVER_CHECK_INTERVAL = 20;
+
+    /** Flights completed early because nobody could see them. */
+    private static long fastForwarded;
+
+    /** Flights refused an animation by the concurrent-flight caps. */
+    private static long overCap;
+
+    /** Corridors checked clear, and cleared again by a block change. */
+    private static long corridorsClear;
+    private static long corridorsInvalidated;
+
+    // ========== SLOTS (index = FlightState.simSlot) ==========
+    private Entity[]            rocket    = new Entity[INITIAL_SLOTS];
+    private FlightState[]       state     = new FlightState[INITIAL_SLOTS];
+    private byte[]              phase     = new byte[INITIAL_SLOTS];
+    private TrajectoryProfile[] profile   = new TrajectoryProfile[INITIAL_SLOTS];
+    /** Takeoff: clock at which step 1 is due; landing: clock at the previous step. */
+    private long[]              clockBase = new long[INITIAL_SLOTS];
+
+    // Takeoff
+    private double[] startY    = new double[INITIAL_SLOTS];
+    private double[] y         = new double[INITIAL_SLOTS];
+    private double[] speed     = new double[INITIAL_SLOTS];
+    private int[]    steps     = new int[INITIAL_SLOTS];
+    private float[]  startTime = new float[INITIAL_SLOTS];
+    private int[]    threshold = new int[INITIAL_SLOTS];
+
+    // Landing
+    private double[] padX = new double[INITIAL_SLOTS];
+    private double[] padY = new double[INITIAL_SLOTS];
+    private double[] padZ = new double[INITIAL_SLOTS];
+
+    // Corridor: 6 ints per slot (FlightCorridor bounds), and whether it is still clear
+    private int[]     corridor = new int[INITIAL_SLOTS * 6];
+    private boolean[] clear    = new boolean[INITIAL_SLOTS];
+
+    private int size;
+    private int tickCount;
+
+    private FlightSimulator() {}
+
+    // ========== REGISTRY ==========
+
+    /** The world's simulator, created on first use.  Server worlds only. */
+    public static FlightSimulator forWorld(World w) {
+        int dim = w.provider != null ? w.provider.dimensionId : 0;
+        FlightSimulator sim = byDimension.get(dim);
+        if (sim == null) {
+            sim = new FlightSimulator();
+            byDimension.put(dim, sim);
+        }
+        return sim;
+    }
+
+    /** Advances every flight in the world.  Called at the start of its server tick. */
+    public static void tickWorld(World w) {
+        FlightSimulator sim = byDimension.get(w.provider != null ? w.provider.dimensionId : 0);
+        if (sim != null && sim.size > 0) sim.tick(FlightPlan.clock());
+    }
+
+    public static void unloadWorld(World w) {
+        byDimension.remove(w.provider != null ? w.provider.dimensionId : 0);
+    }
+
+    /**
+     * True if one more flight may animate in the world under
+     * RocketAnimConfig.maxFlightsPerDimension / maxFlightsTotal and the
+     * AnimationGovernor level; otherwise counts the overflow and returns false.  Lazily released slots still
+     * count for up to a tick, which only ever errs on the strict side.
+     */
+    public static boolean admitFlight(World w) {
+        int perDim = RocketAnimConfig.maxFlightsPerDimension;
+        int total  = RocketAnimConfig.maxFlightsTotal;
+        if (!AnimationGovernor.allowNewFlights()) {
+            overCap++;
+            return false;
+        }
+        if (perDim > 0) {
+            FlightSimulator sim = byDimension.get(w.provider != null ? w.provider.dimensionId : 0);
+            if (sim != null && sim.size >= perDim) {
+                overCap++;
+                return false;
+            }
+        }
+        if (total > 0 && activeFlights() >= total) {
+            overCap++;
+            return false;
+        }
+        return true;
+    }
+
+    public static long getOverCap() {
+        return overCap;
+    }
+
+    public static long getCorridorsClear() {
+        return corridorsClear;
+    }
+
+    public static long getCorridorsInvalidated() {
+        return corridorsInvalidated;
+    }
+
+    public static long getFastForwarded() {
+        return fastForwarded;
+    }
+
+    /** Flights currently simulated across all worlds. */
+    public static int activeFlights() {
+        int[] total = new int[1];
+        byDimension.forEachValue(sim -> total[0] += sim.size);
+        return total[0];
+    }
+
+    // ========== REGISTRATION ==========
+
+    /** Adds (or re-arms) the rocket's takeoff slot from the plan in its FlightState. */
+    int addTakeoff(Entity r, FlightState s) {
+        int i = slotFor(r, s);
+        phase[i]     = FlightState.PHASE_TAKEOFF;
+        profile[i]   = s.planProfile;
+        clockBase[i] = s.planStartNanos;
+        startY[i]    = s.takeoffStartY;
+        y[i]         = s.planY;
+        speed[i]     = s.planSpeed;
+        steps[i]     = s.planTick;
+        startTime[i] = s.planStartTime;
+        threshold[i] = s.planThreshold;
+        armCorridor(i, FlightCorridor.takeoff(r, threshold[i]));
+        return i;
+    }
+
+    /** Adds (or re-arms) the rocket's landing slot; the next step covers the time since {@code now}. */
+    int addLanding(Entity r, FlightState s, int targetX, int targetY, int targetZ, long now) {
+        int i = slotFor(r, s);
+        phase[i]     = FlightState.PHASE_LANDING;
+        profile[i]   = s.planProfile;
+        clockBase[i] = now;
+        padX[i]      = targetX + 0.5D;
+        padY[i]      = targetY + 1.0D;
+        padZ[i]      = targetZ + 0.5D;
+        armCorridor(i, FlightCorridor.landing(r, padX[i], padY[i], padZ[i]));
+        return i;
+    }
+
+    private int slotFor(Entity r, FlightState s) {
+        int i = s.simSlot;
+        if (i >= 0 && i < size && state[i] == s) return i;
+        if (size == rocket.length) grow();
+        i = size++;
+        rocket[i] = r;
+        state[i]  = s;
+        s.simSlot = i;
+        return i;
+    }
+
+    // ========== BATCH STEP ==========
+
+    private void tick(long now) {
+        int maxSteps = RocketAnimConfig.maxCatchUpSteps;
+        boolean checkObservers = RocketAnimConfig.fastForwardUnobserved;
+        int check = ++tickCount % OBSERVER_CHECK_INTERVAL;
+        int i = 0;
+        while (i < size) {
+            FlightState s = state[i];
+            if (rocket[i].isDead || s.planPhase != phase[i] || s.simSlot != i) {
+                release(i);
+                continue;   // slot i now holds what was the last slot
+            }
+            if (checkObservers && i % OBSERVER_CHECK_INTERVAL == check && fastForwardIfUnobserved(i)) {
+                i++;
+                continue;
+            }
+            if (phase[i] == FlightState.PHASE_TAKEOFF) {
+                stepTakeoff(i, now, maxSteps);
+            } else {
+                double scale = FlightPlan.stepScale(clockBase[i], now, maxSteps);
+                clockBase[i] = now;
+                LandingHandler.applyDescentMotion(rocket[i], profile[i], padX[i], padY[i], padZ[i], scale);
+                // Touch down with collision on
+                rocket[i].noClip = clear[i] && rocket[i].posY - padY[i] > FlightCorridor.FINAL_APPROACH;
+            }
+            i++;
+        }
+    }
+
+    /**
+     * Takes the steps due since the plan started (at most maxSteps), and re-
+     * anchors the plan with a correction if the rest of the backlog is worth
+     * more than the tolerance.
+     */
+    void stepTakeoff(int i, long now, int maxSteps) {
+        long due = FlightPlan.stepsDue(clockBase[i], now) - steps[i];
+        int  n   = (int) Math.min(due, maxSteps);
+
+        TrajectoryProfile p = profile[i];
+        double sy = startY[i], cy = y[i], v = speed[i];
+        int    k  = steps[i], top = threshold[i];
+        float  t0 = startTime[i];
+        for (int j = 0; j < n && cy < top; j++) {
+            v   = FlightPlan.ascentSpeed(p, sy, top, cy, t0 + k);
+            cy += v;
+            k++;
+        }
+        y[i]     = cy;
+        speed[i] = v;
+        steps[i] = k;
+
+        // Steps the server could not fit into this tick; clients' clocks already count them
+        long behind = due - n;
+        if (behind > 0 && cy < top && behind * v > RocketAnimConfig.flightPlanTolerance
+                && AnimationGovernor.sendCorrections()) {
+            clockBase[i] = now - (k - 1) * FlightPlan.STEP_NANOS;
+            Entity r = rocket[i];
+            RocketAnimNetwork.sendToWatchers(r, new FlightCorrectionMessage(r.getEntityId(), k, cy, v));
+            if (RocketAnimConfig.debugLogging) {
+                System.out.println("[GTNH Rocket Anim] Flight plan correction: entity=" + r.getEntityId()
+                                   + " behind=" + behind + " steps, Y=" + String.format("%.1f", cy));
+            }
+        }
+    }
+
+    // ========== CORRIDOR ==========
+
+    private void armCorridor(int i, int[] bounds) {
+        System.arraycopy(bounds, 0, corridor, i * 6, 6);
+        clear[i] = FlightCorridor.isClear(rocket[i].worldObj, bounds);
+        rocket[i].noClip = clear[i];
+        if (clear[i]) corridorsClear++;
+    }
+
+    /** A block changed in a server world: flights whose corridor contains it collide again. */
+    public static void blockChanged(World w, int x, int y, int z) {
+        FlightSimulator sim = byDimension.get(w.provider != null ? w.provider.dimensionId : 0);
+        if (sim == null) return;
+        int[] c = sim.corridor;
+        for (int i = 0, n = sim.size; i < n; i++) {
+            int b = i * 6;
+            if (!sim.clear[i]
+                    || x < c[b]     || y < c[b + 1] || z < c[b + 2]
+                    || x > c[b + 3] || y > c[b + 4] || z > c[b + 5]) continue;
+            sim.clear[i] = false;
+            sim.rocket[i].noClip = false;
+            corridorsInvalidated++;
+            if (RocketAnimConfig.debugLogging) {
+                System.out.println("[GTNH Rocket Anim] Block change at " + x + "," + y + "," + z
+                                   + " in the corridor of entity=" + sim.rocket[i].getEntityId());
+            }
+        }
+    }
+
+    // ========== FAST-FORWARD ==========
+
+    /**
+     * Completes the flight in slot i if fast-forward is enabled and no player
+     * can see the rocket: a takeoff is put at its altitude threshold (GC's
+     * next onReachAtmosphere call then goes through), a landing on its pad
+     * (LandingHandler snaps it this tick).  A flight somebody watches keeps
+     * animating and is checked again a second later.
+     */
+    boolean fastForwardIfUnobserved(int i) {
+        if (!RocketAnimConfig.fastForwardUnobserved) return false;
+        Entity r = rocket[i];
+        if (phase[i] == FlightState.PHASE_TAKEOFF && y[i] >= threshold[i]) return false;
+        if (FlightObservers.isObserved(r)) return false;
+
+        if (phase[i] == FlightState.PHASE_TAKEOFF) {
+            y[i] = threshold[i];
+        } else {
+            r.setPosition(padX[i], padY[i], padZ[i]);
+            r.motionX = 0;
+            r.motionY = 0;
+            r.motionZ = 0;
+        }
+        fastForwarded++;
+        if (RocketAnimConfig.debugLogging) {
+            System.out.println("[GTNH Rocket Anim] Fast-forwarded unobserved "
+                               + (phase[i] == FlightState.PHASE_TAKEOFF ? "takeoff" : "landing")
+                               + ": entity=" + r.getEntityId());
+        }
+        return true;
+    }
+
+    // ========== READ-BACK (entity tick) ==========
+
+    /**
+     * Copies the rocket's simulated takeoff position into its FlightState and
+     * moves the entity there.  Returns false if the rocket has no takeoff slot.
+     */
+    public static boolean readBack(Entity r, FlightState s) {
+        if (s.simSlot < 0 || r.worldObj == null) return false;
+        FlightSimulator sim = byDimension.get(r.worldObj.provider != null ? r.worldObj.provider.dimensionId : 0);
+        int i = s.simSlot;
+        if (sim == null || i >= sim.size || sim.state[i] != s || sim.phase[i] != FlightState.PHASE_TAKEOFF) {
+            return false;
+        }
+        s.planY     = sim.y[i];
+        s.planSpeed = sim.speed[i];
+        s.planTick  = sim.steps[i];
+        s.planStartNanos = sim.clockBase[i];
+        r.setPosition(r.posX, s.planY, r.posZ);
+        r.motionY = s.planSpeed;
+        return true;
+    }
+
+    /** True if the rocket's landing motion is being written by a simulator this tick. */
+    public static boolean isSimulatingLanding(FlightState s) {
+        return s.simSlot >= 0 && s.planPhase == FlightState.PHASE_LANDING;
+    }
+
+    // ========== STORAGE ==========
+
+    private void release(int i) {
+        if (state[i].simSlot == i) {
+            state[i].simSlot = -1;
+            rocket[i].noClip = false;
+        }
+        int last = --size;
+        if (i != last) {
+            rocket[i]    = rocket[last];
+            state[i]     = state[last];
+            phase[i]     = phase[last];
+            profile[i]   = profile[last];
+            clockBase[i] = clockBase[last];
+            startY[i]    = startY[last];
+            y[i]         = y[last];
+            speed[i]     = speed[last];
+            steps[i]     = steps[last];
+            startTime[i] = startTime[last];
+            threshold[i] = threshold[last];
+            padX[i]      = padX[last];
+            padY[i]      = padY[last];
+            padZ[i]      = padZ[last];
+            clear[i]     = clear[last];
+            System.arraycopy(corridor, last * 6, corridor, i * 6, 6);
+            if (state[i].simSlot == last) state[i].simSlot = i;
+        }
+        rocket[last]  = null;
+        state[last]   = null;
+        profile[last] = null;
+    }
+
+    private void grow() {
+        int n = rocket.length * 2;
+        rocket    = Arrays.copyOf(rocket, n);
+        state     = Arrays.copyOf(state, n);
+        phase     = Arrays.copyOf(phase, n);
+        profile   = Arrays.copyOf(profile, n);
+        clockBase = Arrays.copyOf(clockBase, n);
+        startY    = Arrays.copyOf(startY, n);
+        y         = Arrays.copyOf(y, n);
+        speed     = Arrays.copyOf(speed, n);
+        steps     = Arrays.copyOf(steps, n);
+        startTime = Arrays.copyOf(startTime, n);
+        threshold = Arrays.copyOf(threshold, n);
+        padX      = Arrays.copyOf(padX, n);
+        padY      = Arrays.copyOf(padY, n);
+        padZ      = Arrays.copyOf(padZ, n);
+        corridor  = Arrays.copyOf(corridor, n * 6);
+        clear     = Arrays.copyOf(clear, n);
+    }
+}
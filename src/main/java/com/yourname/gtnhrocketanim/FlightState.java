@@ -0,0 +1,168 @@
+package com.yourname.gtnhrocketanim;
+
+/**
+ * Mutable per-rocket animation state.
+ *
+ * One instance per cargo rocket, normally stored in the synthetic
+ * gtnhrocketanim$flightState field injected into EntityCargoRocket (see
+ * IFlightStateHolder), else in RocketStateTracker's fallback maps.  Every
+ * field the tick, render and inventory hooks need lives here, so a hook does
+ * one field load and then reads primitives — no Long/Double/Boolean boxing.
+ *
+ * "Unset" is encoded with sentinels rather than nulls:
+ *   ticks  → NO_TICK
+ *   startY → NaN
+ *   tier   → null (not resolved yet)
+ */
+public final class FlightState {
+
+    /** Sentinel for tick fields that have not been set. */
+    public static final long NO_TICK = Long.MIN_VALUE;
+
+    // Animation phase, written by the tick hook every tick
+    public static final byte PHASE_IDLE    = 0;
+    public static final byte PHASE_TAKEOFF = 1;
+    public static final byte PHASE_LANDING = 2;
+
+    public byte phase = PHASE_IDLE;
+
+    // ========== LANDING ==========
+    public long   landingStartTick = NO_TICK;
+    public double landingVelocity;
+
+    // ========== TAKEOFF ==========
+    public long    takeoffStartTick = NO_TICK;
+    public double  takeoffStartY    = Double.NaN;
+    public boolean takeoffLogged;
+
+    // ========== FLIGHT PLAN (see FlightPlan) ==========
+    /** Curve the active plan integrates; null while no plan is active. */
+    public TrajectoryProfile planProfile;
+    /** PHASE_TAKEOFF or PHASE_LANDING — which phase the plan belongs to. */
+    public byte   planPhase      = PHASE_IDLE;
+    /** FlightPlan.clock() at which plan step 1 is due (local to each side). */
+    public long   planStartNanos = NO_TICK;
+    /** timeSinceLaunch at plan step 0. */
+    public float  planStartTime;
+    /** Altitude at which the takeoff plan ends. */
+    public int    planThreshold;
+    /** Steps integrated so far, and the position / speed after the last one. */
+    public int    planTick;
+    public double planY;
+    public double planSpeed;
+    /** Server: this rocket's FlightSimulator slot, or -1. */
+    public int    simSlot = -1;
+
+    /**
+     * Server: the rocket was over the concurrent-flight cap when this flight
+     * started and runs GC's original behaviour until it is idle again.
+     */
+    public boolean overCap;
+
+    /** Server: DestinationPreloader already ran for this takeoff. */
+    public boolean destinationPreloaded;
+
+    /** Server: this landing holds the DestinationPreloader entry for the pad at (heldPadX, heldPadZ). */
+    public boolean holdsDestination;
+    public int     heldPadX, heldPadZ;
+
+    // ========== PENDING DESTINATION (for intercepted moveToDestination) ==========
+    public boolean hasPendingDestination;
+    public int     destX, destY, destZ;
+    public int     pendingFrequency;
+
+    // ========== ATMOSPHERE DELAY ==========
+    public long atmosphereDelayStart = NO_TICK;
+
+    // ========== CARGO TIER ==========
+    /** Resolved tier, or null if neither NBT nor the constructor hook has set it yet. */
+    public CargoRocketTier cargoTier;
+
+    // ========== BOOKKEEPING (RocketStateTracker) ==========
+    /** Dimension the entity was in when the record was created; used for per-world eviction. */
+    public int  dimension;
+    /** Last RocketStateTracker.getOrCreate stamp; used for overflow eviction. */
+    public long touchStamp;
+
+    // ------------------------------------------------------------------
+
+    public boolean hasLandingStart() {
+        return landingStartTick != NO_TICK;
+    }
+
+    public boolean hasTakeoffStartTick() {
+        return takeoffStartTick != NO_TICK;
+    }
+
+    /**
+     * True once takeoff has been initialised (takeoffStartY recorded).  Used by
+     * shouldDelayAtmosphereTransition to avoid double-initialisation.
+     */
+    public boolean hasTakeoffStartY() {
+        return !Double.isNaN(takeoffStartY);
+    }
+
+    public boolean hasFlightPlan() {
+        return planProfile != null;
+    }
+
+    public void setPendingDestination(int x, int y, int z, int frequency) {
+        hasPendingDestination = true;
+        destX = x;
+        destY = y;
+        destZ = z;
+        pendingFrequency = frequency;
+    }
+
+    public void clearLanding() {
+        landingStartTick = NO_TICK;
+        landingVelocity  = 0.0D;
+        if (planPhase == PHASE_LANDING) clearFlightPlan();
+    }
+
+    public void clearTakeoff() {
+        takeoffStartTick = NO_TICK;
+        takeoffStartY    = Double.NaN;
+        takeoffLogged    = false;
+        if (planPhase == PHASE_TAKEOFF) clearFlightPlan();
+    }
+
+    public void clearFlightPlan() {
+        planProfile    = null;
+        planPhase      = PHASE_IDLE;
+        planStartNanos = NO_TICK;
+        planTick       = 0;
+        planSpeed      = 0.0D;
+    }
+
+    /** Clears tick/log tracking and any takeoff plan but keeps takeoffStartY. */
+    public void clearTakeoffTracking() {
+        takeoffStartTick = NO_TICK;
+        takeoffLogged    = false;
+        if (planPhase == PHASE_TAKEOFF) clearFlightPlan();
+    }
+
+    public void clearPendingDestination() {
+        hasPendingDestination = false;
+        pendingFrequency      = 0;
+    }
+
+    public void clearAllTakeoff() {
+        clearPendingDestination();
+        clearTakeoff();
+        overCap              = false;
+        destinationPreloaded = false;
+    }
+
+    @Override
+    public String toString() {
+        return "phase=" + phase +
+               ", pendingDest=" + hasPendingDestination +
+               ", takeoffStartTick=" + hasTakeoffStartTick() +
+               ", takeoffStartY=" + hasTakeoffStartY() +
+               ", landingStart=" + hasLandingStart() +
+               ", overCap=" + overCap +
+               ", plan=" + (hasFlightPlan() ? planPhase + "@" + planTick : "none") +
+               ", cargoTier=" + cargoTier;
+    }
+}
@@ -0,0 +1,28 @@
+package com.yourname.gtnhrocketanim;
+
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+
+/**
+ * Drives FlightSimulator: every server world advances all of its flights at
+ * the start of its tick, before its entities update.  Also samples the
+ * server's tick time for AnimationGovernor and expires DestinationPreloader
+ * tickets.
+ *
+ * Registered on the FML bus from RocketAnimMod.preInit().
+ */
+public final class FlightTickEvents {
+
+    @SubscribeEvent
+    public void onWorldTick(TickEvent.WorldTickEvent event) {
+        if (event.phase != TickEvent.Phase.START || event.world.isRemote) return;
+        FlightSimulator.tickWorld(event.world);
+    }
+
+    @SubscribeEvent
+    public void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END) return;
+        AnimationGovernor.onServerTick();
+        DestinationPreloader.tick(FlightPlan.clock());
+    }
+}
@@ -0,0 +1,22 @@
+package com.yourname.gtnhrocketanim;
+
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fluids.FluidRegistry;
+
+/**
+ * Drops every fluid-ID keyed cache when a fluid is registered.
+ *
+ * Registration normally finishes during startup, but mods may register late
+ * and the IDs assigned until then are not final.  The caches also check the
+ * Fluid instance per entry, so an ID remap without an event is still safe.
+ *
+ * Registered on MinecraftForge.EVENT_BUS from RocketAnimMod.preInit().
+ */
+public final class FluidCacheEvents {
+
+    @SubscribeEvent
+    public void onFluidRegister(FluidRegistry.FluidRegisterEvent event) {
+        TieredFluidTank.clearFuelCache();
+        TierFuelRules.reset();
+    }
+}
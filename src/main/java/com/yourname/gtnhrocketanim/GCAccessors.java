@@ -0,0 +1,325 @@
+package com.yourname.gtnhrocketanim;
+
+import net.minecraftforge.fluids.FluidTank;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Every Galacticraft field and method the mod touches, resolved once into
+ * static final MethodHandles.
+ *
+ * Galacticraft is not a compile-time dependency.  The preferred path for the
+ * entity fields is the transformer-generated ICargoRocketAccess; the handles
+ * here are the fallback for forks where that injection was skipped, plus the
+ * members no transformer patch covers (pad offset, docked entity, config
+ * factor, testFuel, particle proxy).
+ *
+ * Handles are adapted to erased Object/primitive signatures so callers can use
+ * invokeExact without GC types, and because they are static final the JIT
+ * inlines them like a direct field access — unlike Field.get/Method.invoke.
+ * A handle is null when its member could not be resolved; that is logged once
+ * during class initialisation (forced from RocketAnimMod.postInit, after GC
+ * has loaded) and the caller falls back to its default.
+ */
+public final class GCAccessors {
+
+    private static final String CARGO_ROCKET   = "micdoodle8.mods.galacticraft.planets.mars.entities.EntityCargoRocket";
+    private static final String AUTO_ROCKET    = "micdoodle8.mods.galacticraft.api.prefab.entity.EntityAutoRocket";
+    private static final String SPACESHIP_BASE = "micdoodle8.mods.galacticraft.api.prefab.entity.EntitySpaceshipBase";
+    private static final String LANDING_PAD_TE = "micdoodle8.mods.galacticraft.core.tile.TileEntityLandingPad";
+    private static final String CONFIG_CORE    = "micdoodle8.mods.galacticraft.core.ConfigManagerCore";
+    private static final String FLUID_UTIL     = "micdoodle8.mods.galacticraft.core.util.FluidUtil";
+    private static final String GC_CORE        = "micdoodle8.mods.galacticraft.core.GalacticraftCore";
+    private static final String VECTOR3        = "micdoodle8.mods.galacticraft.api.vector.Vector3";
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static int resolved = 0;
+    private static int failed   = 0;
+
+    /** EntityCargoRocket itself, for identity checks; null without GC. */
+    public static final Class<?> CARGO_ROCKET_CLASS = classOrNull(CARGO_ROCKET);
+
+    // ========== ENTITY FIELDS ==========
+    /** (Object)Object — EntityCargoRocket.rocketType */
+    public static final MethodHandle ROCKET_TYPE    = getter(CARGO_ROCKET, "rocketType", Object.class);
+    /** (Object)FluidTank — EntitySpaceshipBase.fuelTank */
+    public static final MethodHandle FUEL_TANK      = getter(SPACESHIP_BASE, "fuelTank", FluidTank.class);
+    /** (Object,FluidTank)void */
+    public static final MethodHandle SET_FUEL_TANK  = setter(SPACESHIP_BASE, "fuelTank", FluidTank.class);
+    /** (Object)boolean — EntityAutoRocket.landing */
+    public static final MethodHandle LANDING        = getter(AUTO_ROCKET, "landing", boolean.class);
+    /** (Object,boolean)void */
+    public static final MethodHandle SET_LANDING    = setter(AUTO_ROCKET, "landing", boolean.class);
+    /** (Object)Object — EntityAutoRocket.targetVec (BlockVec3) */
+    public static final MethodHandle TARGET_VEC     = getter(AUTO_ROCKET, "targetVec", Object.class);
+    /** (Object)int — EntityAutoRocket.destinationFrequency */
+    public static final MethodHandle DEST_FREQUENCY = getter(AUTO_ROCKET, "destinationFrequency", int.class);
+    /** (Object)int — EntityAutoRocket.targetDimension */
+    public static final MethodHandle TARGET_DIMENSION = getter(AUTO_ROCKET, "targetDimension", int.class);
+
+    // ========== ENTITY / TILE METHODS ==========
+    /** (Object)double — EntitySpaceshipBase.getOnPadYOffset() */
+    public static final MethodHandle ON_PAD_Y_OFFSET = virtual(CARGO_ROCKET, "getOnPadYOffset", double.class);
+    /** (Object)Object — TileEntityLandingPad.getDockedEntity() */
+    public static final MethodHandle DOCKED_ENTITY   = virtual(LANDING_PAD_TE, "getDockedEntity", Object.class);
+    /** (Object,boolean,int)boolean — EntityAutoRocket.setTarget(doSet, frequency) */
+    public static final MethodHandle SET_TARGET      = virtual(AUTO_ROCKET, "setTarget", boolean.class,
+                                                               boolean.class, int.class);
+
+    // ========== STATICS ==========
+    /** ()int — ConfigManagerCore.rocketFuelFactor (live read; hot paths use GCConfigSnapshot) */
+    public static final MethodHandle ROCKET_FUEL_FACTOR = staticGetter(CONFIG_CORE, "rocketFuelFactor", int.class);
+    /** (String)boolean — FluidUtil.testFuel(String) */
+    public static final MethodHandle TEST_FUEL = staticMethod(FLUID_UTIL, "testFuel", boolean.class, String.class);
+
+    // ========== PARTICLES (client) ==========
+    /** (double,double,double)Object — new Vector3(x, y, z) */
+    public static final MethodHandle NEW_VECTOR3 = constructor(VECTOR3, double.class, double.class, double.class);
+    /** (String,Object,Object,Object[])void — GalacticraftCore.proxy.spawnParticle, bound to the proxy */
+    public static final MethodHandle SPAWN_PARTICLE = particleProxy();
+
+    static {
+        System.out.println("[GTNH Rocket Anim] GC accessors: " + resolved + " resolved, " + failed + " unavailable");
+    }
+
+    private GCAccessors() {}
+
+    /** Forces class initialisation (and the one-time resolution log). */
+    public static void init() {}
+
+    // ==========================================================================
+    //  TYPED HELPERS
+    //  Injected interface first, MethodHandle second, neutral default last.
+    // ==========================================================================
+
+    /** rocketType ordinal, or -1 if it is null or cannot be read. */
+    public static int rocketTypeOrdinal(Object entity) {
+        if (entity instanceof ICargoRocketAccess) {
+            return ((ICargoRocketAccess) entity).gtnhrocketanim$getRocketTypeOrdinal();
+        }
+        if (ROCKET_TYPE == null) return -1;
+        try {
+            Object type = (Object) ROCKET_TYPE.invokeExact(entity);
+            return type != null ? ((Enum<?>) type).ordinal() : -1;
+        } catch (Throwable t) {
+            return -1;
+        }
+    }
+
+    /** EntitySpaceshipBase.fuelTank, or null if it cannot be read. */
+    public static FluidTank getFuelTank(Object entity) {
+        if (entity instanceof ICargoRocketAccess) {
+            return ((ICargoRocketAccess) entity).gtnhrocketanim$getFuelTank();
+        }
+        if (FUEL_TANK == null) return null;
+        try {
+            return (FluidTank) FUEL_TANK.invokeExact(entity);
+        } catch (Throwable t) {
+            return null;
+        }
+    }
+
+    /** Replaces EntitySpaceshipBase.fuelTank.  Returns false if it cannot be written. */
+    public static boolean setFuelTank(Object entity, FluidTank tank) {
+        if (entity instanceof ICargoRocketAccess) {
+            ((ICargoRocketAccess) entity).gtnhrocketanim$setFuelTank(tank);
+            return true;
+        }
+        if (SET_FUEL_TANK == null) return false;
+        try {
+            SET_FUEL_TANK.invokeExact(entity, tank);
+            return true;
+        } catch (Throwable t) {
+            return false;
+        }
+    }
+
+    /** Sets EntityAutoRocket.landing.  Returns false if it cannot be written. */
+    public static boolean setLanding(Object entity, boolean landing) {
+        if (entity instanceof ICargoRocketAccess) {
+            ((ICargoRocketAccess) entity).gtnhrocketanim$setLanding(landing);
+            return true;
+        }
+        if (SET_LANDING == null) return false;
+        try {
+            SET_LANDING.invokeExact(entity, landing);
+            return true;
+        } catch (Throwable t) {
+            return false;
+        }
+    }
+
+    /** getOnPadYOffset(), or {@code fallback} if unavailable. */
+    public static double onPadYOffset(Object entity, double fallback) {
+        if (ON_PAD_Y_OFFSET == null) return fallback;
+        try {
+            return (double) ON_PAD_Y_OFFSET.invokeExact(entity);
+        } catch (Throwable t) {
+            return fallback;
+        }
+    }
+
+    /** TileEntityLandingPad.getDockedEntity(), or null if empty or unavailable. */
+    public static Object dockedEntity(Object pad) {
+        if (DOCKED_ENTITY == null) return null;
+        try {
+            return (Object) DOCKED_ENTITY.invokeExact(pad);
+        } catch (Throwable t) {
+            return null;
+        }
+    }
+
+    /** EntityAutoRocket.targetDimension, or {@code fallback} if unavailable. */
+    public static int targetDimension(Object entity, int fallback) {
+        if (TARGET_DIMENSION == null) return fallback;
+        try {
+            return (int) TARGET_DIMENSION.invokeExact(entity);
+        } catch (Throwable t) {
+            return fallback;
+        }
+    }
+
+    /**
+     * EntityAutoRocket.setTarget(true, frequency): looks up the launch
+     * controller with that frequency and sets targetVec / targetDimension, as
+     * onReachAtmosphere does.  False if no pad was found or it is unavailable.
+     */
+    public static boolean setTarget(Object entity, int frequency) {
+        if (SET_TARGET == null) return false;
+        try {
+            return (boolean) SET_TARGET.invokeExact(entity, true, frequency);
+        } catch (Throwable t) {
+            return false;
+        }
+    }
+
+    /** ConfigManagerCore.rocketFuelFactor, defaulting to 1. */
+    public static int rocketFuelFactor() {
+        if (ROCKET_FUEL_FACTOR == null) return 1;
+        try {
+            return (int) ROCKET_FUEL_FACTOR.invokeExact();
+        } catch (Throwable t) {
+            return 1;
+        }
+    }
+
+    // ==========================================================================
+    //  RESOLUTION
+    // ==========================================================================
+
+    private static Class<?> classOrNull(String name) {
+        try {
+            return Class.forName(name);
+        } catch (Throwable t) {
+            failed++;
+            System.out.println("[GTNH Rocket Anim] WARN: GC class unavailable: " + name + " (" + t + ")");
+            return null;
+        }
+    }
+
+    private static MethodHandle getter(String owner, String name, Class<?> as) {
+        try {
+            Field f = findField(Class.forName(owner), name);
+            return ok(LOOKUP.unreflectGetter(f).asType(MethodType.methodType(as, Object.class)));
+        } catch (Throwable t) {
+            return missing(owner + "." + name, t);
+        }
+    }
+
+    private static MethodHandle setter(String owner, String name, Class<?> as) {
+        try {
+            Field f = findField(Class.forName(owner), name);
+            return ok(LOOKUP.unreflectSetter(f).asType(MethodType.methodType(void.class, Object.class, as)));
+        } catch (Throwable t) {
+            return missing(owner + "." + name, t);
+        }
+    }
+
+    private static MethodHandle staticGetter(String owner, String name, Class<?> as) {
+        try {
+            Field f = Class.forName(owner).getField(name);
+            return ok(LOOKUP.unreflectGetter(f).asType(MethodType.methodType(as)));
+        } catch (Throwable t) {
+            return missing(owner + "." + name, t);
+        }
+    }
+
+    private static MethodHandle virtual(String owner, String name, Class<?> returnAs, Class<?>... params) {
+        try {
+            Method m = findMethod(Class.forName(owner), name, params);
+            return ok(LOOKUP.unreflect(m).asType(
+                    MethodType.methodType(returnAs, Object.class).appendParameterTypes(params)));
+        } catch (Throwable t) {
+            return missing(owner + "." + name + "()", t);
+        }
+    }
+
+    private static MethodHandle staticMethod(String owner, String name, Class<?> returnAs, Class<?> param) {
+        try {
+            Method m = Class.forName(owner).getMethod(name, param);
+            return ok(LOOKUP.unreflect(m).asType(MethodType.methodType(returnAs, param)));
+        } catch (Throwable t) {
+            return missing(owner + "." + name + "()", t);
+        }
+    }
+
+    private static MethodHandle constructor(String owner, Class<?>... params) {
+        try {
+            return ok(LOOKUP.unreflectConstructor(Class.forName(owner).getConstructor(params))
+                            .asType(MethodType.methodType(Object.class, params)));
+        } catch (Throwable t) {
+            return missing("new " + owner, t);
+        }
+    }
+
+    /** The particle proxy only exists once GC has constructed it, and its spawnParticle is client-side. */
+    private static MethodHandle particleProxy() {
+        try {
+            Object proxy = Class.forName(GC_CORE).getField("proxy").get(null);
+            Class<?> vec = Class.forName(VECTOR3);
+            Method m = proxy.getClass().getMethod("spawnParticle", String.class, vec, vec, Object[].class);
+            return ok(LOOKUP.unreflect(m).bindTo(proxy).asType(MethodType.methodType(
+                    void.class, String.class, Object.class, Object.class, Object[].class)));
+        } catch (Throwable t) {
+            return missing("GalacticraftCore.proxy.spawnParticle", t);
+        }
+    }
+
+    private static Field findField(Class<?> c, String name) throws NoSuchFieldException {
+        for (Class<?> k = c; k != null; k = k.getSuperclass()) {
+            try {
+                Field f = k.getDeclaredField(name);
+                f.setAccessible(true);
+                return f;
+            } catch (NoSuchFieldException ignored) {}
+        }
+        throw new NoSuchFieldException(name);
+    }
+
+    private static Method findMethod(Class<?> c, String name, Class<?>... params) throws NoSuchMethodException {
+        for (Class<?> k = c; k != null; k = k.getSuperclass()) {
+            try {
+                Method m = k.getDeclaredMethod(name, params);
+                m.setAccessible(true);
+                return m;
+            } catch (NoSuchMethodException ignored) {}
+        }
+        throw new NoSuchMethodException(name);
+    }
+
+    private static MethodHandle ok(MethodHandle h) {
+        resolved++;
+        return h;
+    }
+
+    private static MethodHandle missing(String what, Throwable t) {
+        failed++;
+        System.out.println("[GTNH Rocket Anim] WARN: GC accessor unavailable: " + what + " (" + t + ")");
+        return null;
+    }
+}
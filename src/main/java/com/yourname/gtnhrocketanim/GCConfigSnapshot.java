@@ -0,0 +1,57 @@
+package com.yourname.gtnhrocketanim;
+
+import cpw.mods.fml.client.event.ConfigChangedEvent;
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.event.world.WorldEvent;
+
+/**
+ * Snapshot of the Galacticraft config values the mod reads.
+ *
+ * resizeFuelTank runs from every constructor and every hookReadNbt, so a chunk
+ * full of docked rockets used to re-read ConfigManagerCore once per rocket.
+ * The values are now read once and kept until GC's config can have changed:
+ *   - ConfigChangedEvent for GalacticraftCore (in-game config GUI)
+ *   - WorldEvent.Load (server start, and GC's login-time config sync on clients)
+ * Both only mark the snapshot stale; the next read refreshes it.
+ *
+ * Registered on the FML and Forge buses from RocketAnimMod.preInit().
+ */
+public final class GCConfigSnapshot {
+
+    private static final String GC_MOD_ID = "GalacticraftCore";
+
+    private static volatile boolean stale = true;
+
+    /** ConfigManagerCore.rocketFuelFactor */
+    private static int rocketFuelFactor = 1;
+
+    /** Reloads every value from GC.  Cheap, but not for per-rocket use. */
+    public static void refresh() {
+        rocketFuelFactor = GCAccessors.rocketFuelFactor();
+        stale = false;
+        if (RocketAnimConfig.debugLogging) {
+            System.out.println("[GTNH Rocket Anim] GC config snapshot: rocketFuelFactor=" + rocketFuelFactor);
+        }
+    }
+
+    public static void invalidate() {
+        stale = true;
+    }
+
+    public static int rocketFuelFactor() {
+        if (stale) refresh();
+        return rocketFuelFactor;
+    }
+
+    // ========== INVALIDATION EVENTS ==========
+
+    @SubscribeEvent
+    public void onConfigChanged(ConfigChangedEvent.OnConfigChangedEvent event) {
+        if (GC_MOD_ID.equals(event.modID)) invalidate();
+    }
+
+    @SubscribeEvent
+    public void onWorldLoad(WorldEvent.Load event) {
+        invalidate();
+    }
+}
@@ -0,0 +1,44 @@
+package com.yourname.gtnhrocketanim;
+
+import net.minecraftforge.fluids.FluidTank;
+
+/**
+ * Direct accessors for the Galacticraft fields our hooks need, implemented by
+ * EntityCargoRocket at class-load time (RocketAnimTransformer).
+ *
+ * Every method is a plain GETFIELD/PUTFIELD generated against the fields the
+ * transformer found in EntityCargoRocket's class hierarchy.  If any of them is
+ * missing or has an unexpected type the interface is not added at all and the
+ * hooks fall back to GCAccessors — so a renamed field is reported once, at
+ * transform time, instead of failing silently on every tick.
+ *
+ * Callers check {@code entity instanceof ICargoRocketAccess} first.
+ */
+public interface ICargoRocketAccess {
+
+    /** EntityCargoRocket.rocketType ordinal, or -1 while rocketType is still null. */
+    int gtnhrocketanim$getRocketTypeOrdinal();
+
+    /** EntitySpaceshipBase.fuelTank */
+    FluidTank gtnhrocketanim$getFuelTank();
+
+    void gtnhrocketanim$setFuelTank(FluidTank tank);
+
+    /** EntityAutoRocket.landing */
+    boolean gtnhrocketanim$isLanding();
+
+    void gtnhrocketanim$setLanding(boolean landing);
+
+    /** True if EntityAutoRocket.targetVec is non-null. */
+    boolean gtnhrocketanim$hasTarget();
+
+    /** targetVec.x / .y / .z, or 0 when there is no target. */
+    int gtnhrocketanim$getTargetX();
+
+    int gtnhrocketanim$getTargetY();
+
+    int gtnhrocketanim$getTargetZ();
+
+    /** EntityAutoRocket.destinationFrequency */
+    int gtnhrocketanim$getDestinationFrequency();
+}
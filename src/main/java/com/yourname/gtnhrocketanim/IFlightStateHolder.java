@@ -0,0 +1,15 @@
+package com.yourname.gtnhrocketanim;
+
+/**
+ * Implemented by EntityCargoRocket at class-load time (RocketAnimTransformer).
+ *
+ * The transformer adds a synthetic {@code gtnhrocketanim$flightState} field and
+ * this getter, which creates the record on first call.  Hooks read state with
+ * a plain field load instead of a map lookup, and the state dies with the
+ * entity — no eviction needed, no entity-ID reuse hazards.
+ */
+public interface IFlightStateHolder {
+
+    /** Returns this entity's FlightState, creating it on first call.  Never null. */
+    FlightState gtnhrocketanim$getFlightState();
+}
@@ -0,0 +1,182 @@
+package com.yourname.gtnhrocketanim;
+
+/**
+ * Minimal open-addressing hash map from primitive int keys to objects.
+ *
+ * Used for per-entity state keyed by entity ID so that the per-tick hooks
+ * never box an Integer or walk HashMap bucket chains.  Linear probing with
+ * backward-shift deletion keeps the table tombstone-free, and a null value
+ * marks an empty slot (null values are therefore not supported).
+ *
+ * Not synchronised, same as the HashMaps it replaces.  In single-player the
+ * client and integrated-server threads can both read it, so get() snapshots
+ * the arrays and bounds its probe loop; a racing writer can never make a
+ * reader throw or spin.
+ */
+public final class IntObjectMap<V> {
+
+    private static final float LOAD_FACTOR = 0.5F;
+
+    private int[]    keys;
+    private Object[] values;
+    private int      size;
+    private int      resizeAt;
+
+    public IntObjectMap(int expectedSize) {
+        int cap = 8;
+        while (cap * LOAD_FACTOR < expectedSize) cap <<= 1;
+        allocate(cap);
+    }
+
+    // ------------------------------------------------------------------
+
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        final Object[] v = values;
+        final int[]    k = keys;
+        final int mask = Math.min(k.length, v.length) - 1;
+        int i = mix(key) & mask;
+        for (int probes = 0; probes <= mask; probes++) {
+            Object val = v[i];
+            if (val == null) return null;
+            if (k[i] == key) return (V) val;
+            i = (i + 1) & mask;
+        }
+        return null;
+    }
+
+    public boolean containsKey(int key) {
+        return get(key) != null;
+    }
+
+    /** Stores {@code value} under {@code key}, returning the previous value (or null). */
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        if (value == null) throw new IllegalArgumentException("null values are not supported");
+        final int mask = keys.length - 1;
+        int i = mix(key) & mask;
+        while (values[i] != null) {
+            if (keys[i] == key) {
+                V old = (V) values[i];
+                values[i] = value;
+                return old;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i]   = key;
+        values[i] = value;
+        if (++size > resizeAt) rehash(keys.length << 1);
+        return null;
+    }
+
+    /** Removes the mapping for {@code key}, returning the removed value (or null). */
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        final int mask = keys.length - 1;
+        int i = mix(key) & mask;
+        while (values[i] != null) {
+            if (keys[i] == key) {
+                V old = (V) values[i];
+                shiftBack(i);
+                size--;
+                return old;
+            }
+            i = (i + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Removes every entry whose value matches {@code filter}.
+     * @return number of entries removed
+     */
+    @SuppressWarnings("unchecked")
+    public int removeIf(java.util.function.Predicate<? super V> filter) {
+        int removed = 0;
+        int i = 0;
+        while (i < values.length) {
+            Object val = values[i];
+            if (val != null && filter.test((V) val)) {
+                // shiftBack may pull a later entry into slot i — re-examine it
+                shiftBack(i);
+                size--;
+                removed++;
+            } else {
+                i++;
+            }
+        }
+        return removed;
+    }
+
+    /** Calls {@code action} for every value (no modification allowed during the walk). */
+    @SuppressWarnings("unchecked")
+    public void forEachValue(java.util.function.Consumer<? super V> action) {
+        for (Object val : values) {
+            if (val != null) action.accept((V) val);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        java.util.Arrays.fill(values, null);
+        size = 0;
+    }
+
+    // ------------------------------------------------------------------
+
+    /**
+     * Backward-shift deletion: after emptying slot {@code hole}, pull every
+     * following entry of the same probe run back toward its home slot so
+     * lookups never need tombstones.
+     */
+    private void shiftBack(int hole) {
+        final int mask = keys.length - 1;
+        int i = (hole + 1) & mask;
+        while (values[i] != null) {
+            int home = mix(keys[i]) & mask;
+            // Move entry i into the hole if the hole lies cyclically in [home, i)
+            boolean movable = (hole <= i) ? (home <= hole || home > i)
+                                          : (home <= hole && home > i);
+            if (movable) {
+                keys[hole]   = keys[i];
+                values[hole] = values[i];
+                hole = i;
+            }
+            i = (i + 1) & mask;
+        }
+        values[hole] = null;
+    }
+
+    private void rehash(int newCap) {
+        int[]    oldKeys   = keys;
+        Object[] oldValues = values;
+        int[]    newKeys   = new int[newCap];
+        Object[] newValues = new Object[newCap];
+        final int mask = newCap - 1;
+        for (int j = 0; j < oldValues.length; j++) {
+            if (oldValues[j] == null) continue;
+            int i = mix(oldKeys[j]) & mask;
+            while (newValues[i] != null) i = (i + 1) & mask;
+            newKeys[i]   = oldKeys[j];
+            newValues[i] = oldValues[j];
+        }
+        values   = newValues;
+        keys     = newKeys;
+        resizeAt = (int) (newCap * LOAD_FACTOR);
+    }
+
+    private void allocate(int cap) {
+        keys     = new int[cap];
+        values   = new Object[cap];
+        resizeAt = (int) (cap * LOAD_FACTOR);
+    }
+
+    /** Entity IDs are sequential; scramble them so runs don't cluster. */
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -10,6 +10,7 @@ import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
+import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.IIcon;
 import net.minecraft.world.World;
 import net.minecraftforge.fluids.Fluid;
@@ -18,8 +19,6 @@ import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.FluidTank;
 
 import java.lang.reflect.Constructor;
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
 import java.util.List;
 
 /**
@@ -67,11 +66,8 @@ public class ItemCargoRocketTiered extends Item {
     // -- Lazily-initialised GC reflection handles --
     private static boolean      gcReady               = false;
     private static Constructor<?> cargoRocketCtor      = null; // (World, D, D, D, EnumRocketType)
-    private static Method       getOnPadYOffsetMethod  = null; // EntitySpaceshipBase.getOnPadYOffset()
     private static Block        landingPadFullBlock     = null; // GCBlocks.landingPadFull
     private static Class<?>     landingPadTEClass       = null; // TileEntityLandingPad
-    private static Method       getDockedEntityMethod   = null; // TileEntityLandingPad.getDockedEntity()
-    private static Field        fuelTankField           = null; // EntitySpaceshipBase.fuelTank
 
     public ItemCargoRocketTiered() {
         super();
@@ -144,21 +140,24 @@ public class ItemCargoRocketTiered extends Item {
 
         // ---- Find the nearest empty landing pad centre (±1 block in X and Z) ----
         int padX = Integer.MIN_VALUE, padY = 0, padZ = 0;
+        TileEntity indexed = LandingPadIndex.findFreePad(world, x, y, z);
+        if (indexed != null) {
+            padX = indexed.xCoord; padY = indexed.yCoord; padZ = indexed.zCoord;
+        }
+        // Block scan fallback, for pads the index does not know (hooks missing)
         outer:
-        for (int dx = -1; dx <= 1; dx++) {
+        for (int dx = -1; dx <= 1 && padX == Integer.MIN_VALUE; dx++) {
             for (int dz = -1; dz <= 1; dz++) {
                 int bx = x + dx, bz = z + dz;
                 if (world.getBlock(bx, y, bz) == landingPadFullBlock
                         && world.getBlockMetadata(bx, y, bz) == 0) {
                     Object te = world.getTileEntity(bx, y, bz);
                     if (te != null && landingPadTEClass != null
-                            && landingPadTEClass.isInstance(te)) {
-                        try {
-                            if (getDockedEntityMethod.invoke(te) == null) {
-                                padX = bx; padY = y; padZ = bz;
-                                break outer;
-                            }
-                        } catch (Exception ignored) {}
+                            && landingPadTEClass.isInstance(te)
+                            && GCAccessors.DOCKED_ENTITY != null
+                            && GCAccessors.dockedEntity(te) == null) {
+                        padX = bx; padY = y; padZ = bz;
+                        break outer;
                     }
                 }
             }
@@ -194,24 +193,18 @@ public class ItemCargoRocketTiered extends Item {
 
         // hookPostConstructorTierInit already read PENDING and set the cache, but
         // set it again here to be safe (especially for T5-T8).
-        RocketStateTracker.setCargoTier(entity.getEntityId(), tier);
+        RocketStateTracker.setCargoTier(entity, tier);
 
         // ---- Position on pad ----
-        double yOffset = 0.4;
-        if (getOnPadYOffsetMethod != null) {
-            try {
-                yOffset = ((Number) getOnPadYOffsetMethod.invoke(entity)).doubleValue();
-            } catch (Exception ignored) {}
-        }
+        double yOffset = GCAccessors.onPadYOffset(entity, 0.4);
         entity.setPosition(padX + 0.5, padY + yOffset, padZ + 0.5);
 
         // ---- Transfer any saved fuel from the item NBT ----
-        if (stack.hasTagCompound() && stack.getTagCompound().hasKey("RocketFuel")
-                && fuelTankField != null) {
+        if (stack.hasTagCompound() && stack.getTagCompound().hasKey("RocketFuel")) {
             try {
                 int fuelAmount = stack.getTagCompound().getInteger("RocketFuel");
                 if (fuelAmount > 0) {
-                    FluidTank tank = (FluidTank) fuelTankField.get(entity);
+                    FluidTank tank = GCAccessors.getFuelTank(entity);
                     if (tank != null) {
                         Fluid gcFuel = FluidRegistry.getFluid("fuel");
                         if (gcFuel != null) {
@@ -252,15 +245,6 @@ public class ItemCargoRocketTiered extends Item {
             cargoRocketCtor = cargoClass.getConstructor(
                 World.class, double.class, double.class, double.class, enumType);
             cargoRocketCtor.setAccessible(true);
-
-            // getOnPadYOffset — walk up the superclass chain
-            for (Class<?> c = cargoClass; c != null; c = c.getSuperclass()) {
-                try {
-                    getOnPadYOffsetMethod = c.getDeclaredMethod("getOnPadYOffset");
-                    getOnPadYOffsetMethod.setAccessible(true);
-                    break;
-                } catch (NoSuchMethodException ignored) {}
-            }
         } catch (Exception e) {
             System.out.println("[GTNH Rocket Anim] WARN: EntityCargoRocket ctor not found: " + e);
         }
@@ -274,24 +258,13 @@ public class ItemCargoRocketTiered extends Item {
             System.out.println("[GTNH Rocket Anim] WARN: GCBlocks.landingPadFull not found: " + e);
         }
 
-        // TileEntityLandingPad.getDockedEntity()
+        // TileEntityLandingPad (getDockedEntity is in GCAccessors)
         try {
             landingPadTEClass = Class.forName(
                 "micdoodle8.mods.galacticraft.core.tile.TileEntityLandingPad");
-            getDockedEntityMethod = landingPadTEClass.getMethod("getDockedEntity");
         } catch (Exception e) {
             System.out.println("[GTNH Rocket Anim] WARN: TileEntityLandingPad reflection failed: " + e);
         }
-
-        // EntitySpaceshipBase.fuelTank (for fuel transfer)
-        try {
-            Class<?> base = Class.forName(
-                "micdoodle8.mods.galacticraft.api.prefab.entity.EntitySpaceshipBase");
-            fuelTankField = base.getDeclaredField("fuelTank");
-            fuelTankField.setAccessible(true);
-        } catch (Exception e) {
-            System.out.println("[GTNH Rocket Anim] WARN: fuelTank reflection failed: " + e);
-        }
     }
 
     private static int clampDmg(int dmg) {
@@ -14,26 +14,13 @@ public final class LandingHandler {
 
     /**
      * Process one tick of landing animation.
+     * @param state the rocket's tracked flight state
      * @param tier the resolved tier of this cargo rocket (controls descent speed)
      * @return true if animation is still in progress, false if landed
      */
-    public static boolean processTick(Entity rocket, World w,
+    public static boolean processTick(Entity rocket, World w, FlightState state,
                                       int targetX, int targetY, int targetZ,
                                       boolean isServer, CargoRocketTier tier) {
-        int entityId = RocketStateTracker.id(rocket);
-
-        // Initialize landing tracking
-        Long startTick = RocketStateTracker.getLandingStartTick(entityId);
-        if (startTick == null && isServer) {
-            startTick = w.getTotalWorldTime();
-            RocketStateTracker.setLandingStartTick(entityId, startTick);
-            RocketStateTracker.setLandingVelocity(entityId, 0.0D);
-            if (RocketAnimConfig.debugLogging) {
-                System.out.println("[GTNH Rocket Anim] Rocket entering landing mode at Y=" +
-                                   rocket.posY + " tier=" + tier.name());
-            }
-        }
-
         final double padX = targetX + 0.5D;
         final double padZ = targetZ + 0.5D;
         final double padY = targetY + 1.0D;
@@ -46,39 +33,54 @@ public final class LandingHandler {
                                  Math.abs(dz) < RocketAnimConfig.snapDistance &&
                                  dy >= 0 && dy < RocketAnimConfig.snapDistance;
 
+        // Initialize landing tracking (announced to clients unless already sitting on the pad)
+        if (!state.hasLandingStart() && isServer) {
+            DestinationPreloader.arrived(w, rocket, state, targetX, targetZ);
+            // Over the concurrent-flight cap: leave the descent to GC
+            if (!atSnapDistance && !FlightSimulator.admitFlight(w)) {
+                state.overCap = true;
+                DestinationPreloader.landingEnded(w, state);
+                if (RocketAnimConfig.debugLogging) {
+                    System.out.println("[GTNH Rocket Anim] Flight cap reached, rocket lands without animation");
+                }
+                return true;
+            }
+            state.landingStartTick = w.getTotalWorldTime();
+            state.landingVelocity  = 0.0D;
+            if (!atSnapDistance) {
+                FlightPlan.beginLanding(rocket, state, tier, targetX, targetY, targetZ, FlightPlan.clock());
+            }
+            if (RocketAnimConfig.debugLogging) {
+                System.out.println("[GTNH Rocket Anim] Rocket entering landing mode at Y=" +
+                                   rocket.posY + " tier=" + tier.name());
+            }
+        }
+
         if (isServer) {
             if (atSnapDistance) {
                 rocket.setPosition(padX, padY, padZ);
                 rocket.motionX = 0;
                 rocket.motionY = 0;
                 rocket.motionZ = 0;
-                RocketStateTracker.clearLandingState(entityId);
+                state.clearLanding();
+                DestinationPreloader.landingEnded(w, state);
 
-                RocketParticles.spawnTouchdown(w, padX, padY, padZ);
+                RocketParticles.spawnTouchdown(w, rocket, padX, padY, padZ);
 
                 if (RocketAnimConfig.debugLogging) {
                     System.out.println("[GTNH Rocket Anim] Rocket landed successfully (tier=" + tier.name() + ")");
                 }
                 return false; // Landed
             }
+        }
 
-            // Horizontal correction with exponential smoothing
-            double hFactor = 0.05D;
-            double h = RocketAnimConfig.horizontalCorrection;
-            rocket.motionX = clamp(dx * hFactor, -h, h);
-            rocket.motionZ = clamp(dz * hFactor, -h, h);
-
-            // Tier-aware descent speed from config
-            double maxDescentSpeed = RocketAnimConfig.getTierMaxDescentSpeed(tier);
-            double minDescentSpeed = RocketAnimConfig.minDescentSpeed;
-
-            // Square-root deceleration: fast at height, slow near pad
-            double heightFactor = Math.sqrt(dy / 100.0D);
-            if (heightFactor > 1.0D) heightFactor = 1.0D;
-            if (heightFactor < 0.0D) heightFactor = 0.0D;
-
-            double descentSpeed = minDescentSpeed + (maxDescentSpeed - minDescentSpeed) * heightFactor;
-            rocket.motionY = -descentSpeed;
+        // On the server FlightSimulator writes the descent motion at the start of each
+        // tick; a client with the landing plan predicts the same motion itself so the
+        // rocket keeps moving smoothly between tracker updates
+        if (isServer ? !FlightSimulator.isSimulatingLanding(state)
+                     : state.planPhase == FlightState.PHASE_LANDING) {
+            TrajectoryProfile profile = state.hasFlightPlan() ? state.planProfile : TrajectoryProfile.of(tier);
+            applyDescentMotion(rocket, profile, padX, padY, padZ, 1.0D);
         }
 
         // Retrograde burn particles (client-side)
@@ -89,11 +91,35 @@ public final class LandingHandler {
         return true; // Still descending
     }
 
+    /**
+     * Sets the rocket's motion towards the pad for one tick, scaled by
+     * {@code scale} plan steps (1.0 at 20 TPS; see FlightPlan.stepScale).
+     * A scaled step never carries the rocket below the pad.
+     */
+    static void applyDescentMotion(Entity rocket, TrajectoryProfile profile,
+                                   double padX, double padY, double padZ, double scale) {
+        final double dx = padX - rocket.posX;
+        final double dz = padZ - rocket.posZ;
+        final double dy = rocket.posY - padY;
+
+        // Horizontal correction with exponential smoothing
+        double hFactor = 0.05D;
+        double h = RocketAnimConfig.horizontalCorrection;
+        rocket.motionX = clamp(dx * hFactor, -h, h) * scale;
+        rocket.motionZ = clamp(dz * hFactor, -h, h) * scale;
+
+        // Square-root deceleration (fast at height, slow near pad), precomputed per tier
+        double descent = profile.descentSpeed(dy) * scale;
+        if (descent > dy && dy > 0) descent = dy;
+        rocket.motionY = -descent;
+    }
+
     /**
      * Clear landing state when not landing.
      */
-    public static void clearState(int entityId) {
-        RocketStateTracker.clearLandingState(entityId);
+    public static void clearState(World w, FlightState state) {
+        if (!w.isRemote) DestinationPreloader.landingEnded(w, state);
+        state.clearLanding();
     }
 
     private static double clamp(double v, double lo, double hi) {
@@ -0,0 +1,131 @@
+package com.yourname.gtnhrocketanim;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.World;
+
+import java.util.ArrayList;
+
+/**
+ * Server-side index of Galacticraft landing pads, by dimension and chunk.
+ *
+ * Fed by the transformer's TileEntityLandingPad hooks (validate adds,
+ * invalidate / onChunkUnload remove), so it holds exactly the pad centres
+ * that are loaded right now.  A lookup is two IntObjectMap gets and a scan
+ * of the handful of pads in one chunk, instead of block and tile-entity
+ * reads around the clicked position.
+ *
+ * Callers keep their block-scan fallback for the case where the hooks could
+ * not be injected (the transformer logs it); an empty answer from the index
+ * just sends them there.
+ */
+public final class LandingPadIndex {
+
+    /** dimension → chunk key → pad centres in that chunk */
+    private static final IntObjectMap<IntObjectMap<ArrayList<TileEntity>>> byDimension = new IntObjectMap<>(8);
+
+    private static int size;
+
+    private LandingPadIndex() {}
+
+    // ========== MAINTENANCE (transformer hooks) ==========
+
+    static void add(TileEntity pad) {
+        World w = pad.worldObj;
+        if (w == null || w.isRemote) return;
+        IntObjectMap<ArrayList<TileEntity>> chunks = byDimension.get(dim(w));
+        if (chunks == null) {
+            chunks = new IntObjectMap<>(64);
+            byDimension.put(dim(w), chunks);
+        }
+        int key = chunkKey(pad.xCoord >> 4, pad.zCoord >> 4);
+        ArrayList<TileEntity> pads = chunks.get(key);
+        if (pads == null) {
+            pads = new ArrayList<>(2);
+            chunks.put(key, pads);
+        }
+        if (!pads.contains(pad)) {
+            pads.add(pad);
+            size++;
+        }
+    }
+
+    static void remove(TileEntity pad) {
+        World w = pad.worldObj;
+        if (w == null || w.isRemote) return;
+        IntObjectMap<ArrayList<TileEntity>> chunks = byDimension.get(dim(w));
+        if (chunks == null) return;
+        int key = chunkKey(pad.xCoord >> 4, pad.zCoord >> 4);
+        ArrayList<TileEntity> pads = chunks.get(key);
+        if (pads != null && pads.remove(pad)) {
+            size--;
+            if (pads.isEmpty()) chunks.remove(key);
+        }
+    }
+
+    /** Drops a whole world; its pads' unload hooks may not all run. */
+    public static void unloadWorld(World w) {
+        IntObjectMap<ArrayList<TileEntity>> chunks = byDimension.remove(dim(w));
+        if (chunks != null) chunks.forEachValue(pads -> size -= pads.size());
+    }
+
+    // ========== QUERIES ==========
+
+    /** The indexed pad centre at exactly (x, y, z), or null. */
+    public static TileEntity padAt(World w, int x, int y, int z) {
+        ArrayList<TileEntity> pads = padsInChunk(w, x >> 4, z >> 4);
+        if (pads == null) return null;
+        for (int i = 0, n = pads.size(); i < n; i++) {
+            TileEntity pad = pads.get(i);
+            if (pad.xCoord == x && pad.yCoord == y && pad.zCoord == z && !pad.isInvalid()) return pad;
+        }
+        return null;
+    }
+
+    /**
+     * The pad centre at height y within one block of (x, z) on X and Z with no
+     * rocket docked, nearest first; null if none is indexed there.
+     */
+    public static TileEntity findFreePad(World w, int x, int y, int z) {
+        TileEntity best = null;
+        int bestDist = Integer.MAX_VALUE;
+        int cx0 = (x - 1) >> 4, cx1 = (x + 1) >> 4;
+        int cz0 = (z - 1) >> 4, cz1 = (z + 1) >> 4;
+        for (int cx = cx0; cx <= cx1; cx++) {
+            for (int cz = cz0; cz <= cz1; cz++) {
+                ArrayList<TileEntity> pads = padsInChunk(w, cx, cz);
+                if (pads == null) continue;
+                for (int i = 0, n = pads.size(); i < n; i++) {
+                    TileEntity pad = pads.get(i);
+                    int dx = pad.xCoord - x, dz = pad.zCoord - z;
+                    if (pad.yCoord != y || dx < -1 || dx > 1 || dz < -1 || dz > 1 || pad.isInvalid()) continue;
+                    int dist = dx * dx + dz * dz;
+                    if (dist < bestDist && GCAccessors.DOCKED_ENTITY != null && GCAccessors.dockedEntity(pad) == null) {
+                        best = pad;
+                        bestDist = dist;
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    public static int size() {
+        return size;
+    }
+
+    // ------------------------------------------------------------------
+
+    private static ArrayList<TileEntity> padsInChunk(World w, int cx, int cz) {
+        IntObjectMap<ArrayList<TileEntity>> chunks = byDimension.get(dim(w));
+        return chunks != null ? chunks.get(chunkKey(cx, cz)) : null;
+    }
+
+    /** Packs a chunk position into an int; entries compare exact coordinates, so a collision only costs a scan. */
+    private static int chunkKey(int cx, int cz) {
+        return (cx << 16) ^ (cz & 0xFFFF);
+    }
+
+    private static int dim(World w) {
+        return w.provider != null ? w.provider.dimensionId : 0;
+    }
+}
@@ -0,0 +1,92 @@
+package com.yourname.gtnhrocketanim;
+
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import cpw.mods.fml.relauncher.Side;
+import cpw.mods.fml.relauncher.SideOnly;
+
+/**
+ * Client-wide limit on rocket particles spawned per tick.
+ *
+ * Every spawn call asks claim() for the particles it wants and spawns only
+ * what it is granted.  The tick's budget (RocketAnimConfig.particleBudget,
+ * times particleIntensity) is split evenly between the rockets that spawned
+ * particles last tick, so five rockets in view each get a fifth rather than
+ * the first one updated taking it all.
+ *
+ * The budget also follows frame time: while the smoothed frame time is above
+ * 1000 / particleTargetFps the budget shrinks by SCALE_DOWN per frame (to
+ * MIN_SCALE), and it recovers by SCALE_UP per frame once frames are fast
+ * enough again.
+ *
+ * Spawns happen from entity updates, so the budget is counted per client tick;
+ * frame time is sampled from RenderTickEvent.
+ * Registered on the FML bus from RocketAnimMod.preInit(), client side only.
+ */
+@SideOnly(Side.CLIENT)
+public final class ParticleBudget {
+
+    private static final float SCALE_DOWN = 0.95F;
+    private static final float SCALE_UP   = 0.01F;
+    private static final float MIN_SCALE  = 0.1F;
+
+    /** Weight of the newest frame in the smoothed frame time. */
+    private static final double FRAME_SMOOTHING = 0.1D;
+
+    private static int   remaining;
+    private static int   emitters;
+    private static int   lastEmitters;
+    private static float scale = 1.0F;
+
+    private static long   lastFrameNanos;
+    private static double frameMillis;
+
+    // ========== CLAIM ==========
+
+    /** Particles (0..wanted) one rocket may spawn now; counts it as an emitter for this tick. */
+    public static int claim(int wanted) {
+        emitters++;
+        if (remaining <= 0 || wanted <= 0) return 0;
+        int share = Math.max(1, tickBudget() / Math.max(1, lastEmitters));
+        int granted = Math.min(wanted, Math.min(share, remaining));
+        remaining -= granted;
+        return granted;
+    }
+
+    public static float getScale() {
+        return scale;
+    }
+
+    private static int tickBudget() {
+        return (int) (RocketAnimConfig.particleBudget * RocketAnimConfig.particleIntensity * scale);
+    }
+
+    // ========== EVENTS ==========
+
+    @SubscribeEvent
+    public void onClientTick(TickEvent.ClientTickEvent event) {
+        if (event.phase != TickEvent.Phase.START) return;
+        lastEmitters = emitters;
+        emitters     = 0;
+        remaining    = tickBudget();
+    }
+
+    @SubscribeEvent
+    public void onRenderTick(TickEvent.RenderTickEvent event) {
+        if (event.phase != TickEvent.Phase.START) return;
+        long now = System.nanoTime();
+        if (lastFrameNanos != 0) {
+            double ms = (now - lastFrameNanos) / 1000000.0D;
+            frameMillis = frameMillis == 0 ? ms : frameMillis + (ms - frameMillis) * FRAME_SMOOTHING;
+        }
+        lastFrameNanos = now;
+
+        if (RocketAnimConfig.particleTargetFps <= 0) {
+            scale = 1.0F;
+        } else if (frameMillis > 1000.0D / RocketAnimConfig.particleTargetFps) {
+            scale = Math.max(MIN_SCALE, scale * SCALE_DOWN);
+        } else {
+            scale = Math.min(1.0F, scale + SCALE_UP);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.yourname.gtnhrocketanim;
+
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import cpw.mods.fml.relauncher.Side;
+import cpw.mods.fml.relauncher.SideOnly;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.culling.ClippingHelper;
+import net.minecraft.client.renderer.culling.ClippingHelperImpl;
+import net.minecraft.client.renderer.entity.RenderManager;
+import net.minecraft.entity.Entity;
+import net.minecraftforge.client.event.RenderGameOverlayEvent;
+import net.minecraftforge.client.event.RenderWorldLastEvent;
+
+/**
+ * Client-side visibility test run before any exhaust particle work.
+ *
+ * A rocket's exhaust is skipped when its plume (PLUME_RADIUS around the
+ * rocket, PLUME_LENGTH below the nozzle) is farther from the camera than the
+ * render distance or RocketAnimConfig.particleMaxDistance, or lies outside the
+ * camera frustum.  The frustum is the one vanilla built for the last rendered
+ * frame, picked up from ClippingHelperImpl at RenderWorldLastEvent together
+ * with the camera position it is relative to.  Culled rockets do not claim
+ * from ParticleBudget, so the budget is shared between visible rockets only.
+ *
+ * Counts of spawns let through and culled (by distance, by frustum) are kept
+ * per client tick and shown on the F3 screen with the pool and budget state.
+ * Registered on both event buses from RocketAnimMod.preInit(), client side only.
+ */
+@SideOnly(Side.CLIENT)
+public final class ParticleCulling {
+
+    /** Horizontal reach of the exhaust around the rocket's centre. */
+    private static final double PLUME_RADIUS = 3.0D;
+
+    /** How far below the nozzle the exhaust is drawn. */
+    private static final double PLUME_LENGTH = 12.0D;
+
+    private static ClippingHelper frustum;
+    private static double camX, camY, camZ;
+
+    private static int spawned, culledDistance, culledFrustum;
+    private static int lastSpawned, lastCulledDistance, lastCulledFrustum;
+
+    // ========== TEST ==========
+
+    /** True if exhaust from a nozzle at exhaustY under the rocket could be seen this frame. */
+    public static boolean isVisible(Entity rocket, double exhaustY) {
+        if (!RocketAnimConfig.cullParticles) return true;
+
+        double max = Minecraft.getMinecraft().gameSettings.renderDistanceChunks * 16.0D;
+        if (RocketAnimConfig.particleMaxDistance > 0) max = Math.min(max, RocketAnimConfig.particleMaxDistance);
+        double dx = rocket.posX - camX;
+        double dy = rocket.posY - camY;
+        double dz = rocket.posZ - camZ;
+        if (dx * dx + dy * dy + dz * dz > max * max) {
+            culledDistance++;
+            return false;
+        }
+
+        if (frustum != null && !frustum.isBoxInFrustum(
+                dx - PLUME_RADIUS, exhaustY - PLUME_LENGTH - camY, dz - PLUME_RADIUS,
+                dx + PLUME_RADIUS, dy + 1.0D,                     dz + PLUME_RADIUS)) {
+            culledFrustum++;
+            return false;
+        }
+
+        spawned++;
+        return true;
+    }
+
+    // ========== EVENTS ==========
+
+    @SubscribeEvent
+    public void onRenderWorldLast(RenderWorldLastEvent event) {
+        frustum = ClippingHelperImpl.getInstance();
+        camX = RenderManager.renderPosX;
+        camY = RenderManager.renderPosY;
+        camZ = RenderManager.renderPosZ;
+    }
+
+    @SubscribeEvent
+    public void onClientTick(TickEvent.ClientTickEvent event) {
+        if (event.phase != TickEvent.Phase.START) return;
+        lastSpawned        = spawned;
+        lastCulledDistance = culledDistance;
+        lastCulledFrustum  = culledFrustum;
+        spawned = culledDistance = culledFrustum = 0;
+    }
+
+    @SubscribeEvent
+    public void onDebugText(RenderGameOverlayEvent.Text event) {
+        if (!Minecraft.getMinecraft().gameSettings.showDebugInfo) return;
+        if (lastSpawned == 0 && lastCulledDistance == 0 && lastCulledFrustum == 0
+                && ExhaustParticles.liveCount() == 0) return;
+        event.left.add("Rocket particles: " + ExhaustParticles.liveCount() + " live, budget "
+                       + Math.round(ParticleBudget.getScale() * 100) + "%, bursts " + lastSpawned
+                       + ", culled " + lastCulledDistance + " far / " + lastCulledFrustum + " off-screen");
+    }
+}
@@ -13,6 +13,8 @@ import java.io.File;
  *   [landing]        - global landing physics
  *   [takeoff]        - global takeoff physics
  *   [particles]      - particle effects
+ *   [performance]    - server-side resource limits
+ *   [rendering]      - client-side rocket model drawing
  *   [debug]          - debug logging
  *   [tier1_cargo] .. [tier8_cargo] - per-tier overrides
  */
@@ -63,9 +65,84 @@ public final class RocketAnimConfig {
     /** Enable takeoff exhaust particles. */
     public static boolean enableTakeoffParticles = true;
 
-    /** Particle intensity multiplier (0.0 to 2.0). */
+    /** Particle intensity multiplier (0.0 to 2.0); scales the client particle budget. */
     public static double particleIntensity = 1.0;
 
+    /** Spawn exhaust through Galacticraft's EntityFX instead of the pooled renderer (compatibility). */
+    public static boolean useGCParticles = false;
+
+    /** Exhaust particles kept by the pooled renderer; the oldest is reused when full. */
+    public static int exhaustPoolSize = 2048;
+
+    /** Rocket particles the client spawns per tick, shared between all rockets. */
+    public static int particleBudget = 60;
+
+    /** Frame rate below which the client particle budget is scaled down (0 = never). */
+    public static int particleTargetFps = 60;
+
+    /** Skip particles for rockets nobody can see (off-screen or too far away). */
+    public static boolean cullParticles = true;
+
+    /** Camera distance beyond which rocket exhaust is not spawned, within render distance (0 = render distance). */
+    public static int particleMaxDistance = 160;
+
+    // ========== PERFORMANCE CONFIG ==========
+
+    /** Tracked rocket state records per side above which idle, untiered records are evicted (LRU). */
+    public static int maxTrackedRockets = 4096;
+
+    /** Client/server takeoff drift (blocks) that triggers a flight-plan correction packet. */
+    public static double flightPlanTolerance = 0.5;
+
+    /** Most 1/20 s animation steps a rocket may take in one tick when the server runs slow. */
+    public static int maxCatchUpSteps = 4;
+
+    /** Horizontal range (blocks) within which a player counts as watching a rocket. */
+    public static int observerRange = 160;
+
+    /** Complete flights instantly when no player can see them. */
+    public static boolean fastForwardUnobserved = true;
+
+    /** Most animated flights at once in one dimension (0 = no cap). */
+    public static int maxFlightsPerDimension = 16;
+
+    /** Most animated flights at once on the whole server (0 = no cap). */
+    public static int maxFlightsTotal = 64;
+
+    /** Load the destination world and pad chunk during the climb (DestinationPreloader). */
+    public static boolean preloadDestination = true;
+
+    /** Fraction of the takeoff climbed before the destination is preloaded. */
+    public static double preloadAtProgress = 0.5;
+
+    // ========== RENDERING CONFIG (client) ==========
+
+    /** Draw rocket models from compiled display lists (client). */
+    public static boolean compileRocketModels = true;
+
+    /** Camera distance beyond which rockets use the decimated mesh (0 = never). */
+    public static int lodMediumDistance = 48;
+
+    /** Camera distance beyond which rockets are drawn as a billboard (0 = never). */
+    public static int lodFarDistance = 128;
+
+    // ========== GOVERNOR CONFIG (see AnimationGovernor) ==========
+
+    /** Step animation fidelity down automatically while the server lags. */
+    public static boolean governorEnabled = true;
+
+    /** MSPT at which flight-plan corrections stop. */
+    public static int governorReducedMspt = 40;
+
+    /** MSPT at which new flights are shortened. */
+    public static int governorShortMspt = 45;
+
+    /** MSPT at which new flights use GC's instant transfer. */
+    public static int governorInstantMspt = 50;
+
+    /** How far below a level's MSPT the server must get before stepping back up. */
+    public static int governorHysteresisMspt = 5;
+
     // ========== DEBUG CONFIG ==========
 
     /** Enable debug logging to console. */
@@ -175,7 +252,132 @@ public final class RocketAnimConfig {
                 "Exhaust particles during takeoff.");
 
             particleIntensity = cfg.get("particles", "particleIntensity", particleIntensity,
-                "Particle count multiplier (0.0 to 2.0).").getDouble(particleIntensity);
+                "Particle count multiplier (0.0 to 2.0).  On the client it scales particleBudget.")
+                .getDouble(particleIntensity);
+
+            useGCParticles = cfg.getBoolean(
+                "useGCParticles", "particles", useGCParticles,
+                "Client: spawn exhaust as Galacticraft particle entities instead of the mod's pooled renderer.\n" +
+                "Slower; for resource packs or mods that restyle GC's flames.");
+
+            exhaustPoolSize = cfg.getInt(
+                "exhaustPoolSize", "particles", exhaustPoolSize, 256, 16384,
+                "Client: exhaust particles alive at once in the pooled renderer (restart to apply).");
+
+            particleBudget = cfg.getInt(
+                "particleBudget", "particles", particleBudget, 0, 2048,
+                "Client: rocket particles spawned per tick across all rockets, split evenly between them.");
+
+            particleTargetFps = cfg.getInt(
+                "particleTargetFps", "particles", particleTargetFps, 0, 360,
+                "Client: while frame rate is below this the particle budget shrinks, and recovers once above.\n" +
+                "0 = keep the full budget.");
+
+            cullParticles = cfg.getBoolean(
+                "cullParticles", "particles", cullParticles,
+                "Client: no exhaust for rockets outside the camera view or beyond particleMaxDistance.\n" +
+                "Server: no touchdown dust when no player can see the pad.");
+
+            particleMaxDistance = cfg.getInt(
+                "particleMaxDistance", "particles", particleMaxDistance, 0, 1024,
+                "Client: camera distance beyond which rocket exhaust is skipped; never beyond render distance.\n" +
+                "0 = render distance.");
+
+            // ---- Performance ----
+            cfg.addCustomCategoryComment("performance",
+                "Server-side resource limits.");
+
+            maxTrackedRockets = cfg.getInt(
+                "maxTrackedRockets", "performance", maxTrackedRockets, 64, 65536,
+                "Rocket state records per side above which the least recently used idle records are\n" +
+                "dropped.  Records are normally freed when the rocket leaves the world; this only guards\n" +
+                "against leaks.  Records holding a rocket's tier or an active flight are never dropped,\n" +
+                "so the count can stay above this while that many rockets are loaded.");
+
+            flightPlanTolerance = cfg.getFloat(
+                "flightPlanTolerance", "performance", (float) flightPlanTolerance, 0.0F, 64.0F,
+                "Blocks a client's predicted takeoff position may drift from the server's before a\n" +
+                "correction packet is sent.  Only matters when the server skips rocket ticks.");
+
+            maxCatchUpSteps = cfg.getInt(
+                "maxCatchUpSteps", "performance", maxCatchUpSteps, 1, 20,
+                "Takeoff and landing are paced by real time (20 steps per second).  When the server\n" +
+                "runs below 20 TPS a rocket takes up to this many steps per tick to keep up, so\n" +
+                "flights last the same number of seconds down to 20 / maxCatchUpSteps TPS.");
+
+            observerRange = cfg.getInt(
+                "observerRange", "performance", observerRange, 16, 512,
+                "A player sees a rocket when within this many blocks on X/Z and watching its chunk\n" +
+                "(the entity tracker's rule).  Flight-plan packets go to these players only.");
+
+            fastForwardUnobserved = cfg.getBoolean(
+                "fastForwardUnobserved", "performance", fastForwardUnobserved,
+                "Skip the animation of flights nobody can see: takeoff jumps to takeoffAltitudeThreshold,\n" +
+                "landing snaps to the pad.  Checked when a flight starts and once a second during it.");
+
+            maxFlightsPerDimension = cfg.getInt(
+                "maxFlightsPerDimension", "performance", maxFlightsPerDimension, 0, 1024,
+                "Most cargo rockets animating at the same time in one dimension.  Rockets launched or\n" +
+                "landing over the cap use GC's original instant transfer and landing.  0 = no cap.");
+
+            maxFlightsTotal = cfg.getInt(
+                "maxFlightsTotal", "performance", maxFlightsTotal, 0, 4096,
+                "Same as maxFlightsPerDimension, counted across all dimensions.  0 = no cap.");
+
+            preloadDestination = cfg.getBoolean(
+                "preloadDestination", "performance", preloadDestination,
+                "Initialise the destination dimension and load the destination pad's chunk during the\n" +
+                "climb, instead of synchronously at the teleport.  The chunk is held by a Forge chunk\n" +
+                "ticket until the rocket touches down.");
+
+            preloadAtProgress = cfg.getFloat(
+                "preloadAtProgress", "performance", (float) preloadAtProgress, 0.0F, 0.95F,
+                "Fraction of the takeoff climbed when the destination is preloaded.  Capped below 1,\n" +
+                "where the rocket is already being teleported.");
+
+            // ---- Rendering ----
+            cfg.addCustomCategoryComment("rendering",
+                "Client-side options for how cargo rockets are drawn.  Ignored by dedicated servers.");
+
+            compileRocketModels = cfg.getBoolean(
+                "compileRocketModels", "rendering", compileRocketModels,
+                "Client: compile each cargo rocket model into a display list once and draw it with a\n" +
+                "single call, instead of re-sending every vertex each frame.");
+
+            lodMediumDistance = cfg.getInt(
+                "lodMediumDistance", "rendering", lodMediumDistance, 0, 1024,
+                "Client: rockets farther than this from the camera are drawn from a simplified mesh.\n" +
+                "0 = never.  Needs compileRocketModels.");
+
+            lodFarDistance = cfg.getInt(
+                "lodFarDistance", "rendering", lodFarDistance, 0, 1024,
+                "Client: rockets farther than this are drawn as a flat billboard.  0 = never.");
+
+            // ---- Governor ----
+            cfg.addCustomCategoryComment("governor",
+                "Automatic degradation while the server lags.  The average tick time (MSPT) over the\n" +
+                "last 100 ticks is checked once a second; flights already running are not changed.");
+
+            governorEnabled = cfg.getBoolean(
+                "governorEnabled", "governor", governorEnabled,
+                "Step animation fidelity down as MSPT rises and back up as it recovers.");
+
+            governorReducedMspt = cfg.getInt(
+                "governorReducedMspt", "governor", governorReducedMspt, 1, 1000,
+                "From this MSPT on, no flight-plan correction packets are sent.");
+
+            governorShortMspt = cfg.getInt(
+                "governorShortMspt", "governor", governorShortMspt, 1, 1000,
+                "From this MSPT on, new takeoffs end halfway to takeoffAltitudeThreshold and new\n" +
+                "landings start at half landingSpawnHeight.");
+
+            governorInstantMspt = cfg.getInt(
+                "governorInstantMspt", "governor", governorInstantMspt, 1, 1000,
+                "From this MSPT on, new flights use GC's original instant transfer.");
+
+            governorHysteresisMspt = cfg.getInt(
+                "governorHysteresisMspt", "governor", governorHysteresisMspt, 0, 100,
+                "A level is left (one step at a time) only once MSPT is this far below its threshold.");
 
             // ---- Debug ----
             cfg.addCustomCategoryComment("debug", "Debug options for troubleshooting.");
@@ -191,6 +393,9 @@ public final class RocketAnimConfig {
             if (cfg.hasChanged()) cfg.save();
         }
 
+        // Bake the per-tier speed curves now that every parameter is known
+        TrajectoryProfile.rebuild();
+
         System.out.println("[GTNH Rocket Anim] Config loaded: landingHeight=" + landingSpawnHeight +
                           ", maxDescent=" + maxDescentSpeed + ", takeoffRamp=" + takeoffRampTicks +
                           ", tiers=" + TIER_COUNT);
@@ -2,13 +2,12 @@ package com.yourname.gtnhrocketanim;
 
 import net.minecraft.entity.Entity;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.world.World;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.FluidTank;
 
-import java.lang.reflect.Field;
-
 /**
  * Entry point methods called by ASM-injected hooks.
  *
@@ -60,16 +59,6 @@ public final class RocketAnimHooks {
         PENDING_SPAWN_TIER.remove();
     }
 
-    // ==========================================================================
-    //  REFLECTION SETUP
-    //  All Galacticraft fields are accessed via reflection since GC is not a
-    //  compile-time dependency.  Forge types (FluidTank, NBT, etc.) are direct.
-    // ==========================================================================
-
-    private static Field  rocketTypeField     = null; // EntityCargoRocket.rocketType
-    private static Field  entityFuelTankField  = null; // EntitySpaceshipBase.fuelTank
-    private static boolean reflectionInitialized = false;
-
     /**
      * GC's original hardcoded fuel capacity for EntityCargoRocket.
      * Matched from decompile: public int getFuelTankCapacity() { return 2000; }
@@ -77,33 +66,6 @@ public final class RocketAnimHooks {
      */
     private static final int GC_CARGO_FUEL_CAPACITY = 2000;
 
-    /**
-     * Lazily initialise all reflection handles.
-     * Safe to call repeatedly; work is only done once.
-     */
-    private static void ensureReflectionReady() {
-        if (reflectionInitialized) return;
-        reflectionInitialized = true;
-
-        try {
-            Class<?> cargoClass = Class.forName(
-                "micdoodle8.mods.galacticraft.planets.mars.entities.EntityCargoRocket");
-            rocketTypeField = cargoClass.getDeclaredField("rocketType");
-            rocketTypeField.setAccessible(true);
-        } catch (Exception e) {
-            System.out.println("[GTNH Rocket Anim] WARN: Could not reflect rocketType field: " + e);
-        }
-
-        try {
-            Class<?> spaceshipBase = Class.forName(
-                "micdoodle8.mods.galacticraft.api.prefab.entity.EntitySpaceshipBase");
-            entityFuelTankField = spaceshipBase.getDeclaredField("fuelTank");
-            entityFuelTankField.setAccessible(true);
-        } catch (Exception e) {
-            System.out.println("[GTNH Rocket Anim] WARN: Could not reflect fuelTank field: " + e);
-        }
-    }
-
     // ==========================================================================
     //  TIER UTILITY
     // ==========================================================================
@@ -113,15 +75,7 @@ public final class RocketAnimHooks {
      * Returns -1 on failure (e.g. during construction before rocketType is set).
      */
     public static int getRocketTypeOrdinal(Object entity) {
-        ensureReflectionReady();
-        if (rocketTypeField == null) return -1;
-        try {
-            Object enumVal = rocketTypeField.get(entity);
-            if (enumVal == null) return -1;
-            return ((Enum<?>) enumVal).ordinal();
-        } catch (Exception e) {
-            return -1;
-        }
+        return GCAccessors.rocketTypeOrdinal(entity);
     }
 
     /**
@@ -133,18 +87,26 @@ public final class RocketAnimHooks {
      *   3. T2 fallback
      */
     public static CargoRocketTier getCargoTierFromEntity(Entity entity) {
-        int entityId = RocketStateTracker.id(entity);
-        CargoRocketTier cached = RocketStateTracker.getCargoTier(entityId);
-        // If the default T2 is returned, it might just be uninitialised — derive from entity
-        if (cached == CargoRocketTier.T2) {
+        return resolveCargoTier(entity, RocketStateTracker.get(entity));
+    }
+
+    /**
+     * Same as getCargoTierFromEntity, for callers that already hold the entity's
+     * FlightState (may be null if nothing is tracked yet).
+     */
+    static CargoRocketTier resolveCargoTier(Entity entity, FlightState state) {
+        CargoRocketTier cached = RocketStateTracker.peekCargoTier(entity, state);
+        // Unset or T2 might just be uninitialised — derive from entity
+        if (cached == null || cached == CargoRocketTier.T2) {
             int ordinal = getRocketTypeOrdinal(entity);
             if (ordinal >= 0) {
                 CargoRocketTier derived = CargoRocketTier.fromRocketTypeOrdinal(ordinal);
-                RocketStateTracker.setCargoTier(entityId, derived);
+                if (state == null) state = RocketStateTracker.getOrCreate(entity);
+                state.cargoTier = derived;
                 return derived;
             }
         }
-        return cached;
+        return cached != null ? cached : CargoRocketTier.T2;
     }
 
     // ==========================================================================
@@ -169,8 +131,7 @@ public final class RocketAnimHooks {
 
         // Priority 2: state cache (set by hookPostConstructorTierInit / hookReadNbt)
         // This correctly resolves T5-T8 whose rocketType ordinal only reaches TIER_4.
-        int entityId = ((Entity) entity).getEntityId();
-        CargoRocketTier cached = RocketStateTracker.getCargoTier(entityId);
+        CargoRocketTier cached = RocketStateTracker.getCargoTier((Entity) entity);
         CargoRocketTier tier;
         if (cached != CargoRocketTier.T2) {
             // Cache holds a specific tier (T1, T3-T8) — use it
@@ -197,7 +158,6 @@ public final class RocketAnimHooks {
      * before rocketType is available.
      */
     public static void hookPostConstructorTierInit(Object entity) {
-        ensureReflectionReady();
         int ordinal = getRocketTypeOrdinal(entity);
         if (ordinal < 0) return;
 
@@ -207,7 +167,7 @@ public final class RocketAnimHooks {
             ? pending
             : CargoRocketTier.fromRocketTypeOrdinal(ordinal);
 
-        RocketStateTracker.setCargoTier(RocketStateTracker.id((Entity) entity), tier);
+        RocketStateTracker.setCargoTier((Entity) entity, tier);
         resizeFuelTank(entity, tier);
     }
 
@@ -218,7 +178,6 @@ public final class RocketAnimHooks {
      * Also ensures the FluidTank capacity is correct after NBT load.
      */
     public static void hookReadNbt(Entity entity, NBTTagCompound nbt) {
-        ensureReflectionReady();
 
         CargoRocketTier tier;
         if (nbt.hasKey("GTNHCargoTier")) {
@@ -231,7 +190,7 @@ public final class RocketAnimHooks {
             tier = (ordinal >= 0) ? CargoRocketTier.fromRocketTypeOrdinal(ordinal) : CargoRocketTier.T2;
         }
 
-        RocketStateTracker.setCargoTier(RocketStateTracker.id(entity), tier);
+        RocketStateTracker.setCargoTier(entity, tier);
         resizeFuelTank(entity, tier);
 
         if (RocketAnimConfig.debugLogging) {
@@ -247,8 +206,9 @@ public final class RocketAnimHooks {
      * Harmless for T1-T4 (they can always be derived from rocketType).
      */
     public static void hookWriteNbt(Entity entity, NBTTagCompound nbt) {
-        CargoRocketTier tier = RocketStateTracker.getCargoTier(RocketStateTracker.id(entity));
-        nbt.setInteger("GTNHCargoTier", tier.ordinal());
+        // No known tier: leave the tag out rather than write a T2 default over a real tier
+        CargoRocketTier tier = RocketStateTracker.peekCargoTier(entity, RocketStateTracker.get(entity));
+        if (tier != null) nbt.setInteger("GTNHCargoTier", tier.ordinal());
     }
 
     /**
@@ -262,7 +222,7 @@ public final class RocketAnimHooks {
         int ordinal = getRocketTypeOrdinal(entity);
         if (ordinal < 0) return 0;
         // Try the cache first; fall back to ordinal mapping
-        CargoRocketTier tier = RocketStateTracker.getCargoTier(RocketStateTracker.id((Entity) entity));
+        CargoRocketTier tier = RocketStateTracker.getCargoTier((Entity) entity);
         if (tier == CargoRocketTier.T2 && ordinal != 1) {
             // Cache might be stale — re-derive
             tier = CargoRocketTier.fromRocketTypeOrdinal(ordinal);
@@ -277,23 +237,12 @@ public final class RocketAnimHooks {
     //  renderBuggy) and simply swap the OBJ geometry for T3-T8.
     // ==========================================================================
 
-    /** OBJ model objects keyed by CargoRocketTier ordinal. */
-    private static final Object[] TIER_MODELS          = new Object[CargoRocketTier.values().length];
-    private static volatile boolean modelsInitialized  = false;
-
-    /**
-     * Scale correction applied when rendering T3-T8 OBJ models inside renderBuggy.
-     *
-     * renderBuggy applies glScalef(0.4, 0.4, 0.4) before calling renderAll.
-     * GC Asteroids (T3) and GalaxySpace (T4-T8) renderers both apply glScalef(0.9, 0.9, 0.9).
-     * To match the intended size: 0.9 / 0.4 = 2.25
-     */
-    private static final double TIER_MODEL_SCALE = 2.25;
-
     /**
      * Replaces model.renderAll() inside renderBuggy.
-     * For T1/T2: calls the original cargo model unchanged.
-     * For T3-T8: applies a 2.25x scale correction then calls the tier OBJ model.
+     * For T1/T2: draws the original cargo model.
+     * For T3-T8: draws the tier OBJ model with a 2.25x scale correction.
+     * Both come from compiled display lists, at a detail level chosen by
+     * camera distance (TierModelRenderer).
      *
      * @param defaultModel  the cargo rocket IModelCustom (already on the stack)
      * @param entity        the EntityCargoRocket being rendered (ALOAD 1 from renderBuggy)
@@ -303,107 +252,9 @@ public final class RocketAnimHooks {
         try {
             tier = getCargoTierFromEntity((Entity) entity);
         } catch (Exception e) {
-            invokeRenderAll(defaultModel);
-            return;
-        }
-
-        if (tier == CargoRocketTier.T1 || tier == CargoRocketTier.T2) {
-            invokeRenderAll(defaultModel);
-            return;
-        }
-
-        ensureTierModels();
-
-        Object model = TIER_MODELS[tier.ordinal()];
-        if (model != null) {
-            // Push a corrective scale so the GS/GCA model renders at its intended size
-            glPushMatrix();
-            glScaled(TIER_MODEL_SCALE);
-            invokeRenderAll(model);
-            glPopMatrix();
-        } else {
-            invokeRenderAll(defaultModel);
-        }
-    }
-
-    private static void invokeRenderAll(Object model) {
-        try {
-            model.getClass().getMethod("renderAll").invoke(model);
-        } catch (Exception e) {
-            if (RocketAnimConfig.debugLogging) {
-                System.out.println("[GTNH Rocket Anim] renderAll failed: " + e);
-            }
-        }
-    }
-
-    // --- GL helpers (cached reflection — LWJGL not available on server) ---
-    private static java.lang.reflect.Method GL_PUSH = null;
-    private static java.lang.reflect.Method GL_POP  = null;
-    private static java.lang.reflect.Method GL_SCALE = null;
-    private static volatile boolean glReady = false;
-
-    private static synchronized void ensureGL() {
-        if (glReady) return;
-        glReady = true;
-        try {
-            Class<?> gl = Class.forName("org.lwjgl.opengl.GL11");
-            GL_PUSH  = gl.getMethod("glPushMatrix");
-            GL_POP   = gl.getMethod("glPopMatrix");
-            GL_SCALE = gl.getMethod("glScaled", double.class, double.class, double.class);
-        } catch (Exception e) {
-            // Expected on the server — hookRenderModel is never called server-side
-        }
-    }
-
-    private static void glPushMatrix() {
-        ensureGL();
-        if (GL_PUSH != null) try { GL_PUSH.invoke(null); } catch (Exception ignored) {}
-    }
-
-    private static void glPopMatrix() {
-        ensureGL();
-        if (GL_POP != null) try { GL_POP.invoke(null); } catch (Exception ignored) {}
-    }
-
-    private static void glScaled(double f) {
-        ensureGL();
-        if (GL_SCALE != null) try { GL_SCALE.invoke(null, f, f, f); } catch (Exception ignored) {}
-    }
-
-    private static synchronized void ensureTierModels() {
-        if (modelsInitialized) return;
-        modelsInitialized = true;
-
-        try {
-            Class<?> advLoader = Class.forName("net.minecraftforge.client.model.AdvancedModelLoader");
-            java.lang.reflect.Method loadModel =
-                    advLoader.getMethod("loadModel", ResourceLocation.class);
-
-            // T3: GC Asteroids
-            try {
-                TIER_MODELS[CargoRocketTier.T3.ordinal()] = loadModel.invoke(null,
-                        new ResourceLocation("galacticraftasteroids", "models/tier3rocket.obj"));
-                System.out.println("[GTNH Rocket Anim] T3 model loaded");
-            } catch (Exception e) {
-                System.out.println("[GTNH Rocket Anim] Could not load T3 model: " + e);
-            }
-
-            // T4-T8: GalaxySpace
-            for (CargoRocketTier t : new CargoRocketTier[]{
-                    CargoRocketTier.T4, CargoRocketTier.T5, CargoRocketTier.T6,
-                    CargoRocketTier.T7, CargoRocketTier.T8}) {
-                int n = t.ordinal() + 1;
-                try {
-                    TIER_MODELS[t.ordinal()] = loadModel.invoke(null,
-                            new ResourceLocation("galaxyspace", "models/tier" + n + "rocket.obj"));
-                    System.out.println("[GTNH Rocket Anim] T" + n + " model loaded");
-                } catch (Exception e) {
-                    System.out.println("[GTNH Rocket Anim] Could not load T" + n + " model: " + e);
-                }
-            }
-        } catch (Exception e) {
-            System.out.println("[GTNH Rocket Anim] AdvancedModelLoader not available: " + e);
+            tier = CargoRocketTier.T2;
         }
+        TierModelRenderer.render(defaultModel, tier, entity instanceof Entity ? (Entity) entity : null);
     }
 
     /**
@@ -419,8 +270,7 @@ public final class RocketAnimHooks {
             int ordinal = getRocketTypeOrdinal(entity);
             if (ordinal >= 0) {
                 // Attempt cache lookup by entity id
-                int entityId = ((Entity) entity).getEntityId();
-                CargoRocketTier cached = RocketStateTracker.getCargoTier(entityId);
+                CargoRocketTier cached = RocketStateTracker.getCargoTier((Entity) entity);
                 tier = (cached != CargoRocketTier.T2 || ordinal == 1) ? cached
                        : CargoRocketTier.fromRocketTypeOrdinal(ordinal);
             }
@@ -482,42 +332,60 @@ public final class RocketAnimHooks {
     // ==========================================================================
 
     /**
-     * Replaces the entity's FluidTank with a TieredFluidTank sized for the tier.
+     * ASM HOOK — replaces {@code new FluidTank(capacity)} in the EntitySpaceshipBase /
+     * EntityAutoRocket field initialiser.
+     *
+     * Cargo rockets (recognised by the injected ICargoRocketAccess) get a
+     * TieredFluidTank from the start, already sized by the patched
+     * getFuelTankCapacity(), so resizeFuelTank never has to swap the tank.
+     * Every other rocket gets exactly the FluidTank GC would have built.
+     */
+    public static FluidTank hookCreateFuelTank(Object entity, int capacity) {
+        if (entity instanceof ICargoRocketAccess) {
+            return new TieredFluidTank(capacity);
+        }
+        return new FluidTank(capacity);
+    }
+
+    /**
+     * Sizes the entity's fuel tank for the tier.
      *
      * The TieredFluidTank accepts any valid GC rocket fuel (testFuel logic).
      * Tier-specific fuel enforcement is done at the loader level via
      * hookFuelLoaderTierCheck(), not inside the tank.
      *
      * For T1/T2 we keep GC's original capacity (2000 × factor).
-     * Any valid fuel already in the old tank is transferred to the new one.
+     * A TieredFluidTank is resized in place; only a plain FluidTank (the
+     * constructor patch was not applied) is replaced, carrying any valid fuel
+     * across.
      */
     private static void resizeFuelTank(Object entity, CargoRocketTier tier) {
-        if (entityFuelTankField == null) return;
         try {
-            FluidTank oldTank = (FluidTank) entityFuelTankField.get(entity);
+            FluidTank oldTank = GCAccessors.getFuelTank(entity);
             if (oldTank == null) return;
 
-            int fuelFactor = getGCFuelFactor();
+            int fuelFactor = GCConfigSnapshot.rocketFuelFactor();
             int newCapacity = (tier == CargoRocketTier.T1 || tier == CargoRocketTier.T2)
                     ? GC_CARGO_FUEL_CAPACITY * fuelFactor
                     : RocketAnimConfig.getFuelCapacity(tier) * fuelFactor;
 
-            // Skip if already a correctly-sized TieredFluidTank
-            if (oldTank instanceof TieredFluidTank && oldTank.getCapacity() == newCapacity) {
-                return;
-            }
+            if (oldTank instanceof TieredFluidTank) {
+                // Skip if already correctly sized
+                if (oldTank.getCapacity() == newCapacity) return;
+                ((TieredFluidTank) oldTank).resize(newCapacity);
+            } else {
+                TieredFluidTank newTank = new TieredFluidTank(newCapacity);
 
-            TieredFluidTank newTank = new TieredFluidTank(newCapacity);
+                // Transfer any valid fuel already in the old tank
+                FluidStack existing = oldTank.getFluid();
+                if (existing != null && existing.getFluid() != null) {
+                    int amount = Math.min(existing.amount, newCapacity);
+                    newTank.fill(new FluidStack(existing.getFluid(), amount), true);
+                }
 
-            // Transfer any valid fuel already in the old tank
-            FluidStack existing = oldTank.getFluid();
-            if (existing != null && existing.getFluid() != null) {
-                int amount = Math.min(existing.amount, newCapacity);
-                newTank.fill(new FluidStack(existing.getFluid(), amount), true);
+                if (!GCAccessors.setFuelTank(entity, newTank)) return;
             }
 
-            entityFuelTankField.set(entity, newTank);
-
             if (RocketAnimConfig.debugLogging) {
                 System.out.println("[GTNH Rocket Anim] resizeFuelTank: tier=" + tier.name()
                     + " capacity=" + newCapacity);
@@ -547,47 +415,38 @@ public final class RocketAnimHooks {
      * @param loaderFluidObj the FluidStack in the loader's own tank (may be null)
      */
     public static boolean hookFuelLoaderTierCheck(Object fuelable, Object loaderFluidObj) {
-        if (fuelable == null) return true;
-
-        // Only intercept EntityCargoRocket
-        if (!"micdoodle8.mods.galacticraft.planets.mars.entities.EntityCargoRocket"
-                .equals(fuelable.getClass().getName())) {
-            return true;
-        }
+        // Only intercept EntityCargoRocket (exact class, compared by identity)
+        if (fuelable == null || fuelable.getClass() != GCAccessors.CARGO_ROCKET_CLASS) return true;
 
-        // T1/T2: no extra restriction — standard GC fuel accepted
-        int entityId = ((Entity) fuelable).getEntityId();
-        CargoRocketTier tier = RocketStateTracker.getCargoTier(entityId);
-        if (tier == CargoRocketTier.T1 || tier == CargoRocketTier.T2) return true;
+        // T1/T2 or blank config: no extra restriction — standard GC fuel accepted
+        CargoRocketTier tier = RocketStateTracker.getCargoTier((Entity) fuelable);
+        Object required = TierFuelRules.requiredFluid(tier);
+        if (required == TierFuelRules.ANY_FUEL) return true;
 
         // No fluid in loader — let GC handle it (will return false downstream)
         FluidStack loaderFluid = (FluidStack) loaderFluidObj;
-        if (loaderFluid == null || loaderFluid.getFluid() == null) return true;
+        if (loaderFluid == null) return true;
 
-        String loaderFluidName = loaderFluid.getFluid().getName();
-        String expectedFluid   = RocketAnimConfig.getFuelFluid(tier);
-
-        // No restriction configured for this tier
-        if (expectedFluid == null || expectedFluid.isEmpty()) return true;
-
-        boolean allowed = loaderFluidName.equals(expectedFluid);
+        // Fluid identity, not ID: IDs are remapped per save and per server
+        boolean allowed = required != null && loaderFluid.getFluid() == required;
         if (!allowed && RocketAnimConfig.debugLogging) {
             System.out.println("[GTNH Rocket Anim] Fuel loader BLOCKED for tier=" + tier.name()
-                + " — expected fluid=\"" + expectedFluid + "\""
-                + " but loader has \"" + loaderFluidName + "\"");
+                + " — expected fluid=\"" + RocketAnimConfig.getFuelFluid(tier) + "\""
+                + " but loader has \"" + (loaderFluid.getFluid() != null ? loaderFluid.getFluid().getName() : "?") + "\"");
         }
         return allowed;
     }
 
-    /** Returns ConfigManagerCore.rocketFuelFactor via reflection, defaulting to 1. */
-    private static int getGCFuelFactor() {
-        try {
-            Class<?> cfg = Class.forName("micdoodle8.mods.galacticraft.core.ConfigManagerCore");
-            Field f = cfg.getField("rocketFuelFactor");
-            return f.getInt(null);
-        } catch (Exception e) {
-            return 1;
-        }
+    // ==========================================================================
+    //  LANDING PAD INDEX HOOKS (TileEntityLandingPad validate / invalidate / onChunkUnload)
+    // ==========================================================================
+
+    public static void hookLandingPadValidate(TileEntity pad) {
+        LandingPadIndex.add(pad);
+    }
+
+    public static void hookLandingPadInvalidate(TileEntity pad) {
+        LandingPadIndex.remove(pad);
     }
 
     // ==========================================================================
@@ -602,9 +461,14 @@ public final class RocketAnimHooks {
             return originalHeight;
         }
 
-        int entityId = RocketStateTracker.id(rocket);
         double currentY = rocket.posY;
 
+        // Over the concurrent-flight cap: GC's original arrival height, no landing animation
+        FlightState state = RocketStateTracker.get(rocket);
+        if (state != null && state.overCap) {
+            return originalHeight;
+        }
+
         if (RocketAnimConfig.debugLogging) {
             System.out.println("[GTNH Rocket Anim] moveToDestination called: originalHeight=" + originalHeight +
                               ", frequency=" + frequency + ", Y=" + String.format("%.1f", currentY));
@@ -613,17 +477,17 @@ public final class RocketAnimHooks {
         if (originalHeight >= 100) {
             if (RocketAnimConfig.debugLogging) {
                 System.out.println("[GTNH Rocket Anim] Applying spawn height: " + originalHeight +
-                                   " -> " + RocketAnimConfig.landingSpawnHeight);
+                                   " -> " + AnimationGovernor.landingSpawnHeight());
             }
-            return RocketAnimConfig.landingSpawnHeight;
+            return AnimationGovernor.landingSpawnHeight();
         }
 
         if (originalHeight > 0 && originalHeight < 100) {
             if (RocketAnimConfig.debugLogging) {
                 System.out.println("[GTNH Rocket Anim] Post-transfer landing, applying spawn height: " +
-                                   originalHeight + " -> " + RocketAnimConfig.landingSpawnHeight);
+                                   originalHeight + " -> " + AnimationGovernor.landingSpawnHeight());
             }
-            return RocketAnimConfig.landingSpawnHeight;
+            return AnimationGovernor.landingSpawnHeight();
         }
 
         return originalHeight;
@@ -635,7 +499,7 @@ public final class RocketAnimHooks {
      */
     public static int resolveArrivalHeight(int arg) {
         if (arg >= 100) {
-            return RocketAnimConfig.landingSpawnHeight;
+            return AnimationGovernor.landingSpawnHeight();
         }
         return arg;
     }
@@ -649,9 +513,7 @@ public final class RocketAnimHooks {
             return false;
         }
 
-        int entityId = RocketStateTracker.id(rocket);
         double currentY = rocket.posY;
-        double threshold = RocketAnimConfig.takeoffAltitudeThreshold;
 
         if (Double.isNaN(currentY)) {
             if (RocketAnimConfig.debugLogging) {
@@ -660,10 +522,17 @@ public final class RocketAnimHooks {
             return false;
         }
 
+        FlightState state = RocketStateTracker.getOrCreate(rocket);
+        if (state.overCap) {
+            return false;
+        }
+        // A running plan may end below the configured threshold (AnimationGovernor)
+        double threshold = state.planPhase == FlightState.PHASE_TAKEOFF
+                ? state.planThreshold : RocketAnimConfig.takeoffAltitudeThreshold;
+
         if (currentY < threshold) {
-            if (!RocketStateTracker.hasTargetInitialized(entityId)) {
-                RocketStateTracker.setTargetInitialized(entityId, true);
-                RocketStateTracker.setTakeoffStartY(entityId, currentY);
+            if (!state.hasTakeoffStartY()) {
+                state.takeoffStartY = currentY;
                 if (RocketAnimConfig.debugLogging) {
                     System.out.println("[GTNH Rocket Anim] === BLOCKING onReachAtmosphere === " +
                                       "Starting takeoff animation at Y=" + String.format("%.1f", currentY) +
@@ -682,7 +551,7 @@ public final class RocketAnimHooks {
             System.out.println("[GTNH Rocket Anim] Altitude threshold reached at Y=" +
                               String.format("%.1f", currentY) + " >= " + threshold + " - allowing teleport!");
         }
-        RocketStateTracker.clearTakeoffState(entityId);
+        state.clearTakeoff();
         return false;
     }
 
@@ -691,8 +560,13 @@ public final class RocketAnimHooks {
      * Injected near the end of EntityCargoRocket.func_70071_h_() (tick).
      *
      * Takeoff physics now scale with the rocket's CargoRocketTier.
+     *
+     * Every GC field arrives as a primitive read by the injected GETFIELDs
+     * (targetVec is flattened to hasTarget + x/y/z, destFreq is -1 if the field
+     * does not exist), so the hot path does no reflection at all.
      */
-    public static void onCargoRocketTick(Entity rocket, boolean landing, Object targetVecObj,
+    public static void onCargoRocketTick(Entity rocket, boolean landing, boolean hasTarget,
+                                          int targetX, int targetY, int targetZ, int destFreq,
                                           int launchPhase, float timeSinceLaunch) {
         try {
             tickCounter++;
@@ -704,95 +578,100 @@ public final class RocketAnimHooks {
             int entityId = RocketStateTracker.id(rocket);
             double currentY = rocket.posY;
 
+            // One lookup gives every piece of per-rocket state for this tick
+            FlightState state = RocketStateTracker.getOrCreate(rocket);
+
             // Resolve the tier for this entity
-            CargoRocketTier tier = getCargoTierFromEntity(rocket);
+            CargoRocketTier tier = resolveCargoTier(rocket, state);
 
             // Debug logging every 100 ticks
             if (RocketAnimConfig.debugLogging && tickCounter % 100 == 1) {
-                int destFreq = -1;
-                try {
-                    java.lang.reflect.Field destField = rocket.getClass().getField("destinationFrequency");
-                    destFreq = destField.getInt(rocket);
-                } catch (Exception ignored) {}
-
                 System.out.println("[GTNH Rocket Anim] === TICK #" + tickCounter + " === EntityID=" + entityId +
                                    ", server=" + isServer +
                                    ", landing=" + landing +
                                    ", launchPhase=" + launchPhase +
                                    ", timeSinceLaunch=" + timeSinceLaunch +
                                    ", destFreq=" + destFreq +
-                                   ", targetVec=" + (targetVecObj != null ? "present" : "null") +
+                                   ", targetVec=" + (hasTarget ? targetX + "," + targetY + "," + targetZ : "null") +
                                    ", Y=" + String.format("%.1f", currentY) +
                                    ", motionY=" + String.format("%.3f", rocket.motionY) +
                                    ", tier=" + tier.name());
             }
 
+            // Over the concurrent-flight cap: GC flies this rocket on its own until it is idle
+            if (isServer && state.overCap) {
+                if (!landing && launchPhase == 0) state.clearAllTakeoff();
+                return;
+            }
+
             // ===== TAKEOFF IN PROGRESS =====
             if (!landing && launchPhase == 2 && !Double.isNaN(currentY)) {
-                double threshold = RocketAnimConfig.takeoffAltitudeThreshold;
+                // A client with a plan ends where the server's config says, not its own
+                double threshold = state.planPhase == FlightState.PHASE_TAKEOFF
+                        ? state.planThreshold : RocketAnimConfig.takeoffAltitudeThreshold;
 
                 if (currentY < threshold) {
-                    Double startY = RocketStateTracker.getTakeoffStartY(entityId);
-                    if (startY == null && isServer) {
-                        startY = currentY;
-                        RocketStateTracker.setTakeoffStartY(entityId, startY);
-                        if (RocketAnimConfig.debugLogging) {
-                            System.out.println("[GTNH Rocket Anim] TAKEOFF DETECTED at Y=" +
-                                               String.format("%.1f", startY) +
-                                               " tier=" + tier.name() + " - ACCELERATION ENGAGED");
-                        }
-                    }
+                    state.phase = FlightState.PHASE_TAKEOFF;
+                    long now = FlightPlan.clock();
 
-                    // === SERVER: Drive the rocket upward with tier-scaled acceleration ===
+                    // === SERVER: Drive the rocket upward along the tier's flight plan ===
                     if (isServer) {
-                        if (startY == null) startY = currentY;
-
-                        double totalDistance = threshold - startY;
-                        double traveled      = currentY - startY;
-
-                        double progress = (totalDistance > 0) ? traveled / totalDistance : 0;
-                        if (progress < 0) progress = 0;
-
-                        // Tier-specific parameters from config
-                        double baseSpeed    = RocketAnimConfig.getTierBaseSpeed(tier);
-                        double accelFactor  = RocketAnimConfig.getTierAccelFactor(tier);
-                        double maxSpeed     = RocketAnimConfig.getTierMaxAscentSpeed(tier);
-
-                        // Quadratic acceleration: (1 + progress * accelFactor)^2
-                        double speedMultiplier = Math.pow(1.0 + progress * accelFactor, 2.0);
-
-                        // Time-based additive shift (scaled by tier's base speed)
-                        double additiveShift = (timeSinceLaunch / 20.0) * baseSpeed * 6.25;
-
-                        // Engine spool-up ramp (2 seconds)
-                        double launchRamp = Math.min(timeSinceLaunch / 40.0, 1.0);
-
-                        double upwardSpeed = (baseSpeed * speedMultiplier + additiveShift) * launchRamp;
+                        if (state.planPhase != FlightState.PHASE_TAKEOFF) {
+                            if (!FlightSimulator.admitFlight(w)) {
+                                state.overCap = true;
+                                state.clearTakeoff();
+                                if (RocketAnimConfig.debugLogging) {
+                                    System.out.println("[GTNH Rocket Anim] Flight cap reached, entity=" + entityId +
+                                                       " takes off without animation");
+                                }
+                                return;
+                            }
+                            if (Double.isNaN(state.takeoffStartY)) state.takeoffStartY = currentY;
+                            FlightPlan.beginTakeoff(rocket, state, tier, timeSinceLaunch, now);
+                            if (RocketAnimConfig.debugLogging) {
+                                System.out.println("[GTNH Rocket Anim] TAKEOFF DETECTED at Y=" +
+                                                   String.format("%.1f", state.takeoffStartY) +
+                                                   " tier=" + tier.name() + " - ACCELERATION ENGAGED");
+                            }
+                        }
 
-                        // Hard cap at tier max
-                        if (upwardSpeed > maxSpeed) upwardSpeed = maxSpeed;
+                        // Integrated at the start of the tick with every other flight in the
+                        // world (FlightSimulator).  No velocityChanged: watching clients
+                        // follow the same plan themselves.
+                        if (!FlightSimulator.readBack(rocket, state)) {
+                            FlightSimulator.forWorld(w).addTakeoff(rocket, state);
+                        }
 
-                        rocket.motionY = upwardSpeed;
-                        rocket.posY   += upwardSpeed;
-                        rocket.velocityChanged = true;
+                        // Get the destination loaded well before GC teleports there
+                        if (!state.destinationPreloaded) {
+                            double climb = state.planThreshold - state.takeoffStartY;
+                            if (climb <= 0 || rocket.posY - state.takeoffStartY >= climb * RocketAnimConfig.preloadAtProgress) {
+                                DestinationPreloader.preload(rocket, state, hasTarget, targetX, targetZ, destFreq);
+                            }
+                        }
 
                         if (RocketAnimConfig.debugLogging && tickCounter % 20 == 0) {
+                            double totalDistance = threshold - state.takeoffStartY;
+                            double progress = totalDistance > 0 ? (rocket.posY - state.takeoffStartY) / totalDistance : 0;
                             System.out.println("[GTNH Rocket Anim] TAKEOFF: tier=" + tier.name() +
                                                " Y=" + String.format("%.1f", rocket.posY) +
-                                               " speed=" + String.format("%.2f", upwardSpeed) +
-                                               "/" + String.format("%.1f", maxSpeed) +
+                                               " speed=" + String.format("%.2f", state.planSpeed) +
+                                               "/" + String.format("%.1f", state.planProfile.maxAscentSpeed) +
                                                " progress=" + String.format("%.1f%%", progress * 100));
                         }
                     }
 
-                    // === CLIENT: Spawn particles ===
+                    // === CLIENT: Dead-reckon from the plan, spawn particles ===
                     if (!isServer) {
-                        Double savedStartY = RocketStateTracker.getTakeoffStartY(entityId);
-                        if (savedStartY == null) {
+                        if (state.planPhase == FlightState.PHASE_TAKEOFF) {
+                            FlightPlan.stepClient(rocket, state, now);
+                        }
+                        double savedStartY = state.takeoffStartY;
+                        if (Double.isNaN(savedStartY)) {
                             savedStartY = currentY - (threshold - currentY) * 0.1;
-                            RocketStateTracker.setTakeoffStartY(entityId, savedStartY);
+                            state.takeoffStartY = savedStartY;
                         }
-                        double traveled = currentY - savedStartY;
+                        double traveled = rocket.posY - savedStartY;
                         RocketParticles.spawnTakeoff(w, rocket, launchPhase, (long)(traveled * 2));
                     }
                     return;
@@ -800,46 +679,32 @@ public final class RocketAnimHooks {
 
                 // Threshold reached
                 if (isServer && currentY >= threshold) {
-                    Double savedStartY = RocketStateTracker.getTakeoffStartY(entityId);
-                    if (savedStartY != null) {
+                    if (state.hasTakeoffStartY()) {
                         if (RocketAnimConfig.debugLogging) {
                             System.out.println("[GTNH Rocket Anim] TAKEOFF COMPLETE at Y=" +
                                                String.format("%.1f", currentY) +
                                                " tier=" + tier.name() + " - rocket will teleport");
                         }
-                        RocketStateTracker.clearTakeoffState(entityId);
+                        state.clearTakeoff();
                     }
                 }
             }
 
             // ===== LANDING =====
-            if (landing && targetVecObj != null) {
-                RocketStateTracker.clearTakeoffTracking(entityId);
-
-                int targetX, targetY, targetZ;
-                try {
-                    java.lang.reflect.Field fx = targetVecObj.getClass().getField("x");
-                    java.lang.reflect.Field fy = targetVecObj.getClass().getField("y");
-                    java.lang.reflect.Field fz = targetVecObj.getClass().getField("z");
-                    targetX = fx.getInt(targetVecObj);
-                    targetY = fy.getInt(targetVecObj);
-                    targetZ = fz.getInt(targetVecObj);
-                } catch (Exception e) {
-                    if (RocketAnimConfig.debugLogging) {
-                        System.out.println("[GTNH Rocket Anim] Failed to read targetVec: " + e);
-                    }
-                    return;
-                }
+            if (landing && hasTarget) {
+                state.phase = FlightState.PHASE_LANDING;
+                state.clearTakeoffTracking();
 
-                LandingHandler.processTick(rocket, w, targetX, targetY, targetZ, isServer, tier);
+                LandingHandler.processTick(rocket, w, state, targetX, targetY, targetZ, isServer, tier);
                 return;
             } else {
-                LandingHandler.clearState(entityId);
+                LandingHandler.clearState(w, state);
             }
+            state.phase = FlightState.PHASE_IDLE;
 
             // ===== IDLE =====
             if (launchPhase == 0) {
-                RocketStateTracker.clearAllTakeoffData(entityId);
+                state.clearAllTakeoff();
             }
 
         } catch (Throwable t) {
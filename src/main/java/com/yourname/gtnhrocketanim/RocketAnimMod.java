@@ -1,12 +1,16 @@
 package com.yourname.gtnhrocketanim;
 
+import cpw.mods.fml.common.FMLCommonHandler;
 import cpw.mods.fml.common.Mod;
 import cpw.mods.fml.common.event.FMLPostInitializationEvent;
 import cpw.mods.fml.common.event.FMLPreInitializationEvent;
+import cpw.mods.fml.common.event.FMLServerStartingEvent;
 import cpw.mods.fml.common.registry.GameRegistry;
 import net.minecraft.init.Blocks;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
+import net.minecraftforge.common.ForgeChunkManager;
+import net.minecraftforge.common.MinecraftForge;
 
 @Mod(
     modid = "gtnhrocketanim",
@@ -16,6 +20,9 @@ import net.minecraft.item.ItemStack;
 )
 public class RocketAnimMod {
 
+    @Mod.Instance("gtnhrocketanim")
+    public static RocketAnimMod instance;
+
     /** The new tiered cargo rocket item (T3–T8). */
     public static Item CARGO_ROCKET_ITEM;
 
@@ -25,13 +32,42 @@ public class RocketAnimMod {
 
         CARGO_ROCKET_ITEM = new ItemCargoRocketTiered();
         GameRegistry.registerItem(CARGO_ROCKET_ITEM, "cargoRocketTiered");
+
+        MinecraftForge.EVENT_BUS.register(new RocketStateEvents());
+        MinecraftForge.EVENT_BUS.register(new FluidCacheEvents());
+
+        GCConfigSnapshot gcConfig = new GCConfigSnapshot();
+        MinecraftForge.EVENT_BUS.register(gcConfig);
+        FMLCommonHandler.instance().bus().register(gcConfig);
+
+        FMLCommonHandler.instance().bus().register(new FlightTickEvents());
+        ForgeChunkManager.setForcedChunkLoadingCallback(this, new DestinationPreloader());
+
+        RocketAnimNetwork.init();
+        if (event.getSide().isClient()) {
+            FMLCommonHandler.instance().bus().register(new FlightPlanClient());
+            ExhaustParticles exhaust = new ExhaustParticles();
+            MinecraftForge.EVENT_BUS.register(exhaust);
+            FMLCommonHandler.instance().bus().register(exhaust);
+            FMLCommonHandler.instance().bus().register(new ParticleBudget());
+            ParticleCulling culling = new ParticleCulling();
+            MinecraftForge.EVENT_BUS.register(culling);
+            FMLCommonHandler.instance().bus().register(culling);
+        }
     }
 
     @Mod.EventHandler
     public void postInit(FMLPostInitializationEvent event) {
+        // Resolve every GC member once, now that GC is fully loaded
+        GCAccessors.init();
         registerRecipes();
     }
 
+    @Mod.EventHandler
+    public void serverStarting(FMLServerStartingEvent event) {
+        event.registerServerCommand(new CommandRocketAnim());
+    }
+
     // -----------------------------------------------------------------------
     //  Recipe registration
     //
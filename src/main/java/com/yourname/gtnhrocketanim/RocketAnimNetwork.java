@@ -0,0 +1,45 @@
+package com.yourname.gtnhrocketanim;
+
+import cpw.mods.fml.common.network.NetworkRegistry;
+import cpw.mods.fml.common.network.simpleimpl.IMessage;
+import cpw.mods.fml.common.network.simpleimpl.SimpleNetworkWrapper;
+import cpw.mods.fml.relauncher.Side;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayerMP;
+
+import java.util.List;
+
+/**
+ * The mod's network channel.  Carries only the flight-plan messages
+ * (see FlightPlan); everything else still goes through GC and vanilla.
+ *
+ * Clients without this mod never register the channel and ignore its
+ * packets, which is why acceptableRemoteVersions can stay "*".
+ */
+public final class RocketAnimNetwork {
+
+    public static final String CHANNEL_NAME = "gtnhrocketanim";
+
+    private static SimpleNetworkWrapper channel;
+
+    private RocketAnimNetwork() {}
+
+    /** Called from RocketAnimMod.preInit(); discriminators must match on both sides. */
+    public static void init() {
+        channel = NetworkRegistry.INSTANCE.newSimpleChannel(CHANNEL_NAME);
+        channel.registerMessage(FlightPlanMessage.Handler.class, FlightPlanMessage.class, 0, Side.CLIENT);
+        channel.registerMessage(FlightCorrectionMessage.Handler.class, FlightCorrectionMessage.class, 1, Side.CLIENT);
+    }
+
+    /** Sends the message to every player who can see the entity (FlightObservers). */
+    public static void sendToWatchers(Entity entity, IMessage message) {
+        if (channel == null || entity.worldObj == null) return;
+        List<?> players = entity.worldObj.playerEntities;
+        for (int i = 0, n = players.size(); i < n; i++) {
+            Object o = players.get(i);
+            if (o instanceof EntityPlayerMP && FlightObservers.canSee((EntityPlayerMP) o, entity)) {
+                channel.sendTo(message, (EntityPlayerMP) o);
+            }
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.yourname.gtnhrocketanim;
+
+import cpw.mods.fml.relauncher.Side;
+import cpw.mods.fml.relauncher.SideOnly;
+import net.minecraft.client.renderer.Tessellator;
+import net.minecraftforge.client.model.obj.Face;
+import net.minecraftforge.client.model.obj.GroupObject;
+import net.minecraftforge.client.model.obj.TextureCoordinate;
+import net.minecraftforge.client.model.obj.Vertex;
+import net.minecraftforge.client.model.obj.WavefrontObject;
+import org.lwjgl.opengl.GL11;
+
+import java.util.HashMap;
+import java.util.HashSet;
+
+/**
+ * Lower-detail versions of a rocket OBJ model, built once from its faces and
+ * compiled into display lists (see TierModelRenderer for the full model).
+ *
+ *   medium  vertex-clustered mesh: vertices are snapped to a GRID_CELLS grid
+ *           over the model's bounds, triangles that collapse or repeat are
+ *           dropped.  Each corner keeps its own texture coordinate, so the
+ *           tier texture still maps roughly where it did.
+ *   far     two crossed quads the size of the model, coloured by the tier
+ *           texture at the model's mean texture coordinate.  Reads as the
+ *           rocket's silhouette from any horizontal angle without having to
+ *           undo renderBuggy's rotation.
+ *
+ * Built in the same GL state as the full model, with the same scale baked in.
+ */
+@SideOnly(Side.CLIENT)
+final class RocketModelLod {
+
+    /** Grid cells along the model's longest side for the medium mesh. */
+    private static final int GRID_CELLS = 24;
+
+    final int mediumList;
+    final int farList;
+
+    private RocketModelLod(int mediumList, int farList) {
+        this.mediumList = mediumList;
+        this.farList    = farList;
+    }
+
+    /** Builds both levels, or returns null if the model has no geometry or lists cannot be allocated. */
+    static RocketModelLod build(WavefrontObject model, double scale, String label) {
+        // ---- Bounds and mean texture coordinate ----
+        float minX = Float.MAX_VALUE, minY = Float.MAX_VALUE, minZ = Float.MAX_VALUE;
+        float maxX = -Float.MAX_VALUE, maxY = -Float.MAX_VALUE, maxZ = -Float.MAX_VALUE;
+        double sumU = 0, sumV = 0;
+        int corners = 0, faces = 0;
+        for (GroupObject group : model.groupObjects) {
+            for (Face face : group.faces) {
+                if (face.vertices == null) continue;
+                faces++;
+                for (int i = 0; i < face.vertices.length; i++) {
+                    Vertex v = face.vertices[i];
+                    minX = Math.min(minX, v.x); maxX = Math.max(maxX, v.x);
+                    minY = Math.min(minY, v.y); maxY = Math.max(maxY, v.y);
+                    minZ = Math.min(minZ, v.z); maxZ = Math.max(maxZ, v.z);
+                    TextureCoordinate t = uv(face, i);
+                    if (t != null) {
+                        sumU += t.u;
+                        sumV += t.v;
+                    }
+                    corners++;
+                }
+            }
+        }
+        if (corners == 0) return null;
+
+        int lists = GL11.glGenLists(2);
+        if (lists == 0) return null;
+
+        float cell = Math.max(maxX - minX, Math.max(maxY - minY, maxZ - minZ)) / GRID_CELLS;
+        if (cell <= 0) cell = 1;
+
+        GL11.glNewList(lists, GL11.GL_COMPILE);
+        int triangles;
+        try {
+            GL11.glPushMatrix();
+            GL11.glScaled(scale, scale, scale);
+            triangles = drawClustered(model, minX, minY, minZ, cell);
+            GL11.glPopMatrix();
+        } finally {
+            GL11.glEndList();
+        }
+
+        GL11.glNewList(lists + 1, GL11.GL_COMPILE);
+        try {
+            GL11.glPushMatrix();
+            GL11.glScaled(scale, scale, scale);
+            drawCross(minX, minY, minZ, maxX, maxY, maxZ, sumU / corners, sumV / corners);
+            GL11.glPopMatrix();
+        } finally {
+            GL11.glEndList();
+        }
+
+        System.out.println("[GTNH Rocket Anim] " + label + " LOD: " + faces + " faces -> "
+                           + triangles + " triangles (medium), billboard (far)");
+        return new RocketModelLod(lists, lists + 1);
+    }
+
+    void delete() {
+        GL11.glDeleteLists(mediumList, 2);
+    }
+
+    // ========== MEDIUM: VERTEX CLUSTERING ==========
+
+    private static int drawClustered(WavefrontObject model, float minX, float minY, float minZ, float cell) {
+        // Pass 1: average position of every occupied cell
+        HashMap<Long, float[]> cells = new HashMap<>();
+        for (GroupObject group : model.groupObjects) {
+            for (Face face : group.faces) {
+                if (face.vertices == null) continue;
+                for (Vertex v : face.vertices) {
+                    float[] acc = cells.get(cellKey(v, minX, minY, minZ, cell));
+                    if (acc == null) cells.put(cellKey(v, minX, minY, minZ, cell), acc = new float[4]);
+                    acc[0] += v.x; acc[1] += v.y; acc[2] += v.z; acc[3]++;
+                }
+            }
+        }
+        for (float[] acc : cells.values()) {
+            acc[0] /= acc[3]; acc[1] /= acc[3]; acc[2] /= acc[3];
+        }
+
+        // Pass 2: fan-triangulate each face on the clustered vertices
+        HashSet<String> seen = new HashSet<>();
+        Tessellator tess = Tessellator.instance;
+        tess.startDrawing(GL11.GL_TRIANGLES);
+        int triangles = 0;
+        for (GroupObject group : model.groupObjects) {
+            for (Face face : group.faces) {
+                Vertex[] vs = face.vertices;
+                if (vs == null || vs.length < 3) continue;
+                long k0 = cellKey(vs[0], minX, minY, minZ, cell);
+                for (int i = 1; i + 1 < vs.length; i++) {
+                    long k1 = cellKey(vs[i], minX, minY, minZ, cell);
+                    long k2 = cellKey(vs[i + 1], minX, minY, minZ, cell);
+                    if (k0 == k1 || k1 == k2 || k0 == k2) continue;
+                    if (!seen.add(triangleKey(k0, k1, k2))) continue;
+
+                    float[] a = cells.get(k0), b = cells.get(k1), c = cells.get(k2);
+                    normal(tess, a, b, c);
+                    corner(tess, a, uv(face, 0));
+                    corner(tess, b, uv(face, i));
+                    corner(tess, c, uv(face, i + 1));
+                    triangles++;
+                }
+            }
+        }
+        tess.draw();
+        return triangles;
+    }
+
+    private static long cellKey(Vertex v, float minX, float minY, float minZ, float cell) {
+        long x = (long) ((v.x - minX) / cell);
+        long y = (long) ((v.y - minY) / cell);
+        long z = (long) ((v.z - minZ) / cell);
+        return (x << 42) | (y << 21) | z;
+    }
+
+    /** Same key for a triangle whatever corner it starts at or which way it winds. */
+    private static String triangleKey(long a, long b, long c) {
+        long t;
+        if (a > b) { t = a; a = b; b = t; }
+        if (b > c) { t = b; b = c; c = t; }
+        if (a > b) { t = a; a = b; b = t; }
+        return a + ":" + b + ":" + c;
+    }
+
+    private static void normal(Tessellator tess, float[] a, float[] b, float[] c) {
+        float ux = b[0] - a[0], uy = b[1] - a[1], uz = b[2] - a[2];
+        float vx = c[0] - a[0], vy = c[1] - a[1], vz = c[2] - a[2];
+        float nx = uy * vz - uz * vy, ny = uz * vx - ux * vz, nz = ux * vy - uy * vx;
+        float len = (float) Math.sqrt(nx * nx + ny * ny + nz * nz);
+        if (len > 0) tess.setNormal(nx / len, ny / len, nz / len);
+    }
+
+    private static void corner(Tessellator tess, float[] p, TextureCoordinate t) {
+        tess.addVertexWithUV(p[0], p[1], p[2], t != null ? t.u : 0, t != null ? t.v : 0);
+    }
+
+    private static TextureCoordinate uv(Face face, int i) {
+        return face.textureCoordinates != null && i < face.textureCoordinates.length
+                ? face.textureCoordinates[i] : null;
+    }
+
+    // ========== FAR: CROSSED BILLBOARD ==========
+
+    private static void drawCross(float minX, float minY, float minZ, float maxX, float maxY, float maxZ,
+                                  double u, double v) {
+        float cx = (minX + maxX) / 2, cz = (minZ + maxZ) / 2;
+        float r  = Math.max(maxX - minX, maxZ - minZ) / 2;
+
+        Tessellator tess = Tessellator.instance;
+        tess.startDrawingQuads();
+        tess.setNormal(0.0F, 1.0F, 0.0F);
+        // X-aligned and Z-aligned quads, each with both windings so back-face culling never hides them
+        quad(tess, cx - r, minY, cz, cx + r, maxY, cz, u, v);
+        quad(tess, cx + r, minY, cz, cx - r, maxY, cz, u, v);
+        quad(tess, cx, minY, cz - r, cx, maxY, cz + r, u, v);
+        quad(tess, cx, minY, cz + r, cx, maxY, cz - r, u, v);
+        tess.draw();
+    }
+
+    private static void quad(Tessellator tess, float x0, float y0, float z0, float x1, float y1, float z1,
+                             double u, double v) {
+        tess.addVertexWithUV(x0, y0, z0, u, v);
+        tess.addVertexWithUV(x1, y0, z1, u, v);
+        tess.addVertexWithUV(x1, y1, z1, u, v);
+        tess.addVertexWithUV(x0, y1, z0, u, v);
+    }
+}
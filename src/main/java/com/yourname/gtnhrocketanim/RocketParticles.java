@@ -7,7 +7,8 @@ import net.minecraft.world.WorldServer;
 
 /**
  * Handles all particle effects for rocket animations.
- * Uses Galacticraft's particle system for proper rocket flame effects.
+ * Exhaust is drawn by ExhaustParticles; with RocketAnimConfig.useGCParticles
+ * it goes through Galacticraft's particle system instead.
  * 
  * GC particle types:
  * - "launchFlameLaunched" / "launchFlameIdle" - orange flame particles
@@ -18,64 +19,71 @@ public final class RocketParticles {
     
     private static final Random rand = new Random();
     
-    // Cache the GC proxy method to avoid repeated reflection
-    private static java.lang.reflect.Method gcSpawnParticleMethod = null;
-    private static Object gcProxy = null;
+    /** Exhaust spawn pattern (like GC's cargo rocket): X/Z offsets from the rocket's centre. */
+    private static final double[][] OFFSETS = {
+        {0.2D, 0.2D},    // corners
+        {-0.2D, 0.2D},
+        {-0.2D, -0.2D},
+        {0.2D, -0.2D},
+        {0.0D, 0.0D},    // center
+        {0.2D, 0.0D},    // edges
+        {-0.2D, 0.0D},
+        {0.0D, 0.2D},
+        {0.0D, -0.2D}
+    };
+    
+    // GC particle proxy / Vector3 handles live in GCAccessors
     private static boolean gcInitialized = false;
     private static boolean gcAvailable = false;
     
-    // GC Vector3 class
-    private static Class<?> vector3Class = null;
-    private static java.lang.reflect.Constructor<?> vector3Constructor = null;
+    /** Touchdown bursts not sent because no player could see the pad. */
+    private static long touchdownsCulled;
     
     private RocketParticles() {}
     
     /**
-     * Initialize reflection access to GC's particle system.
+     * Check once whether GC's particle system is reachable.
      */
     private static void initGC() {
         if (gcInitialized) return;
         gcInitialized = true;
         
-        try {
-            // Get GalacticraftCore class
-            Class<?> gcCoreClass = Class.forName("micdoodle8.mods.galacticraft.core.GalacticraftCore");
-            
-            // Get the proxy field
-            java.lang.reflect.Field proxyField = gcCoreClass.getField("proxy");
-            gcProxy = proxyField.get(null);
-            
-            // Get Vector3 class
-            vector3Class = Class.forName("micdoodle8.mods.galacticraft.api.vector.Vector3");
-            vector3Constructor = vector3Class.getConstructor(double.class, double.class, double.class);
-            
-            // Get spawnParticle method - it takes (String, Vector3, Vector3, Object[])
-            gcSpawnParticleMethod = gcProxy.getClass().getMethod("spawnParticle", 
-                String.class, vector3Class, vector3Class, Object[].class);
-            
-            gcAvailable = true;
+        gcAvailable = GCAccessors.SPAWN_PARTICLE != null && GCAccessors.NEW_VECTOR3 != null;
+        if (gcAvailable) {
             System.out.println("[GTNH Rocket Anim] Successfully hooked into Galacticraft particle system");
-        } catch (Exception e) {
-            gcAvailable = false;
-            System.out.println("[GTNH Rocket Anim] Could not hook GC particles, using fallback: " + e.getMessage());
+        } else {
+            System.out.println("[GTNH Rocket Anim] Could not hook GC particles, using fallback");
         }
     }
     
     /**
-     * Spawn a GC particle using reflection.
+     * Spawn a GC particle through the cached proxy handle.
      */
     private static void spawnGCParticle(String type, double x, double y, double z, double mx, double my, double mz) {
         if (!gcAvailable) return;
         
         try {
-            Object position = vector3Constructor.newInstance(x, y, z);
-            Object motion = vector3Constructor.newInstance(mx, my, mz);
-            gcSpawnParticleMethod.invoke(gcProxy, type, position, motion, new Object[] { null });
-        } catch (Exception e) {
+            Object position = (Object) GCAccessors.NEW_VECTOR3.invokeExact(x, y, z);
+            Object motion = (Object) GCAccessors.NEW_VECTOR3.invokeExact(mx, my, mz);
+            GCAccessors.SPAWN_PARTICLE.invokeExact(type, position, motion, new Object[] { null });
+        } catch (Throwable t) {
             // Silently fail - particles are non-critical
         }
     }
     
+    /**
+     * One exhaust particle: into the pooled renderer, or GC's EntityFX in
+     * compatibility mode.
+     */
+    private static void spawnExhaust(int kind, String gcType, double x, double y, double z,
+                                     double mx, double my, double mz, float groundY) {
+        if (RocketAnimConfig.useGCParticles) {
+            spawnGCParticle(gcType, x, y, z, mx, my, mz);
+        } else {
+            ExhaustParticles.spawn(kind, x, y, z, mx, my, mz, groundY);
+        }
+    }
+    
     /**
      * Spawn retrograde burn particles during descent.
      * Uses GC's launchFlame particles for proper rocket flame look.
@@ -86,43 +94,37 @@ public final class RocketParticles {
         // Only run on CLIENT side - GC particles are client-side only
         if (!w.isRemote) return;
         
-        initGC();
-        if (!gcAvailable) {
-            spawnRetrogradeBurnFallback(w, rocket, height);
-            return;
-        }
-        
         // Only spawn every few ticks
         if (w.getTotalWorldTime() % 2 != 0) return;
         
         // Engine exhaust position
         double exhaustY = rocket.posY - 0.4D;
+        if (!ParticleCulling.isVisible(rocket, exhaustY)) return;
+        
+        if (RocketAnimConfig.useGCParticles) {
+            initGC();
+            if (!gcAvailable) {
+                spawnRetrogradeBurnFallback(w, rocket, height);
+                return;
+            }
+        }
         
         // Motion scales with height (like GC does for landing)
         double heightScale = Math.max(height, 1.0D) / 60.0D;
         if (heightScale > 2.0D) heightScale = 2.0D;
         
-        double intensity = RocketAnimConfig.particleIntensity;
-        
         // GC-style spawn pattern - fixed positions with velocity vectors
         // The velocity vector determines the flame direction
         double baseMotionY = -2.0D * heightScale;  // Flames point down
         
-        // Spawn at multiple fixed offsets (like GC's cargo rocket)
-        double[][] offsets = {
-            {0.2D, 0.2D},    // corners
-            {-0.2D, 0.2D},
-            {-0.2D, -0.2D},
-            {0.2D, -0.2D},
-            {0.0D, 0.0D},    // center
-            {0.2D, 0.0D},    // edges
-            {-0.2D, 0.0D},
-            {0.0D, 0.2D},
-            {0.0D, -0.2D}
-        };
+        float groundY = RocketAnimConfig.useGCParticles ? 0.0F
+                : ExhaustParticles.groundBelow(w, rocket.posX, exhaustY, rocket.posZ);
         
-        for (double[] offset : offsets) {
-            if (rand.nextDouble() > intensity) continue;
+        // Spread whatever the budget grants evenly over the offsets
+        int granted = ParticleBudget.claim(OFFSETS.length);
+        int start = rand.nextInt(OFFSETS.length);
+        for (int j = 0; j < granted; j++) {
+            double[] offset = OFFSETS[(start + j * OFFSETS.length / granted) % OFFSETS.length];
             
             double ox = offset[0] + (rand.nextDouble() - 0.5D) * 0.1D;
             double oz = offset[1] + (rand.nextDouble() - 0.5D) * 0.1D;
@@ -132,9 +134,9 @@ public final class RocketParticles {
             double my = baseMotionY;
             double mz = oz * 0.5D;
             
-            spawnGCParticle("launchFlameIdle", 
+            spawnExhaust(ExhaustParticles.KIND_IDLE, "launchFlameIdle",
                 rocket.posX + ox, exhaustY, rocket.posZ + oz,
-                mx, my, mz);
+                mx, my, mz, groundY);
         }
     }
     
@@ -162,10 +164,16 @@ public final class RocketParticles {
     
     /**
      * Spawn touchdown dust/smoke particles when rocket lands.
+     * Sent from the server, so the visibility test is FlightObservers' rather
+     * than the camera's: nothing is sent if no player can see the rocket.
      */
-    public static void spawnTouchdown(World w, double x, double y, double z) {
+    public static void spawnTouchdown(World w, Entity rocket, double x, double y, double z) {
         if (!RocketAnimConfig.enableTouchdownParticles) return;
         if (!(w instanceof WorldServer)) return;
+        if (RocketAnimConfig.cullParticles && !FlightObservers.isObserved(rocket)) {
+            touchdownsCulled++;
+            return;
+        }
         
         WorldServer ws = (WorldServer) w;
         
@@ -208,57 +216,52 @@ public final class RocketParticles {
         // Only run on CLIENT side
         if (!w.isRemote) return;
         
-        initGC();
-        if (!gcAvailable) {
-            spawnTakeoffFallback(w, rocket, launchPhase, ticksInTakeoff);
-            return;
-        }
-        
         // Engine exhaust position
         double exhaustY = rocket.posY - 0.4D;
+        if (!ParticleCulling.isVisible(rocket, exhaustY)) return;
+        
+        if (RocketAnimConfig.useGCParticles) {
+            initGC();
+            if (!gcAvailable) {
+                spawnTakeoffFallback(w, rocket, launchPhase, ticksInTakeoff);
+                return;
+            }
+        }
         
         // Motion scales with launch phase
         double thrustScale = launchPhase == 1 ? 0.5D : 1.0D + Math.min(ticksInTakeoff * 0.02D, 1.5D);
-        double intensity = RocketAnimConfig.particleIntensity;
         
         // Base downward motion for flames
         double baseMotionY = -2.0D * thrustScale;
         
-        // GC-style spawn pattern
-        double[][] offsets = {
-            {0.2D, 0.2D},    // corners
-            {-0.2D, 0.2D},
-            {-0.2D, -0.2D},
-            {0.2D, -0.2D},
-            {0.0D, 0.0D},    // center
-            {0.2D, 0.0D},    // edges  
-            {-0.2D, 0.0D},
-            {0.0D, 0.2D},
-            {0.0D, -0.2D}
-        };
+        float groundY = RocketAnimConfig.useGCParticles ? 0.0F
+                : ExhaustParticles.groundBelow(w, rocket.posX, exhaustY, rocket.posZ);
         
         // Use "launched" type during full thrust for different visual
         String particleType = launchPhase == 1 ? "launchFlameIdle" : "launchFlameLaunched";
+        int kind = launchPhase == 1 ? ExhaustParticles.KIND_IDLE : ExhaustParticles.KIND_LAUNCHED;
         
         // More iterations during full thrust
         int iterations = launchPhase == 1 ? 1 : 2;
         
-        for (int iter = 0; iter < iterations; iter++) {
-            for (double[] offset : offsets) {
-                if (rand.nextDouble() > intensity) continue;
-                
-                double ox = offset[0] + (rand.nextDouble() - 0.5D) * 0.1D;
-                double oz = offset[1] + (rand.nextDouble() - 0.5D) * 0.1D;
-                
-                // Motion vector - outward and down
-                double mx = ox * thrustScale;
-                double my = baseMotionY;
-                double mz = oz * thrustScale;
-                
-                spawnGCParticle(particleType,
-                    rocket.posX + ox, exhaustY, rocket.posZ + oz,
-                    mx, my, mz);
-            }
+        // Spread whatever the budget grants evenly over the offsets
+        int wanted = OFFSETS.length * iterations;
+        int granted = ParticleBudget.claim(wanted);
+        int start = rand.nextInt(OFFSETS.length);
+        for (int j = 0; j < granted; j++) {
+            double[] offset = OFFSETS[(start + j * wanted / granted) % OFFSETS.length];
+            
+            double ox = offset[0] + (rand.nextDouble() - 0.5D) * 0.1D;
+            double oz = offset[1] + (rand.nextDouble() - 0.5D) * 0.1D;
+            
+            // Motion vector - outward and down
+            double mx = ox * thrustScale;
+            double my = baseMotionY;
+            double mz = oz * thrustScale;
+            
+            spawnExhaust(kind, particleType,
+                rocket.posX + ox, exhaustY, rocket.posZ + oz,
+                mx, my, mz, groundY);
         }
     }
     
@@ -282,4 +285,8 @@ public final class RocketParticles {
                 1, 0.2D, 0.3D, 0.2D, 0.1D);
         }
     }
+    
+    public static long getTouchdownsCulled() {
+        return touchdownsCulled;
+    }
 }
@@ -0,0 +1,86 @@
+package com.yourname.gtnhrocketanim;
+
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.world.IWorldAccess;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.WorldEvent;
+
+/**
+ * Evicts RocketStateTracker records when their entity goes away.
+ *
+ * Forge 1.7.10 has no entity-leave-world event, so we attach an IWorldAccess
+ * listener to every world on load: World.onEntityRemoved() calls
+ * onEntityDestroy() for every removal — death, /kill, setDead, dimension
+ * change and chunk-unload alike.  World unload is handled as well so
+ * nothing survives its world even if a removal slips past.
+ *
+ * There is deliberately no ChunkEvent.Unload handler: Forge posts it from
+ * Chunk.onChunkUnload(), before the chunk's entities are saved, and dropping
+ * a record there would make hookWriteNbt lose the rocket's tier.  Entities of
+ * an unloaded chunk reach onEntityDestroy on the next tick, after the save.
+ *
+ * The same listener forwards server-side block changes to FlightSimulator,
+ * which drops the noclip corridor of any flight they touch (FlightCorridor).
+ *
+ * Registered on MinecraftForge.EVENT_BUS from RocketAnimMod.preInit().
+ */
+public final class RocketStateEvents {
+
+    @SubscribeEvent
+    public void onWorldLoad(WorldEvent.Load event) {
+        event.world.addWorldAccess(new WorldListener(event.world));
+    }
+
+    @SubscribeEvent
+    public void onWorldUnload(WorldEvent.Unload event) {
+        if (!event.world.isRemote) {
+            FlightSimulator.unloadWorld(event.world);
+            DestinationPreloader.unloadWorld(event.world);
+            LandingPadIndex.unloadWorld(event.world);
+        }
+        int removed = RocketStateTracker.removeWorld(event.world);
+        if (RocketAnimConfig.debugLogging && removed > 0) {
+            System.out.println("[GTNH Rocket Anim] World unload: evicted " + removed
+                               + " rocket state records, " + RocketStateTracker.size() + " remain");
+        }
+    }
+
+    // ------------------------------------------------------------------
+    //  World listener — onEntityDestroy and, on the server, markBlockForUpdate
+    // ------------------------------------------------------------------
+
+    private static final class WorldListener implements IWorldAccess {
+
+        private final World world;
+
+        WorldListener(World world) {
+            this.world = world;
+        }
+
+        @Override
+        public void onEntityDestroy(Entity entity) {
+            RocketStateTracker.remove(entity);
+        }
+
+        @Override
+        public void markBlockForUpdate(int x, int y, int z) {
+            if (!world.isRemote) FlightSimulator.blockChanged(world, x, y, z);
+        }
+
+        @Override public void markBlockForRenderUpdate(int x, int y, int z) {}
+        @Override public void markBlockRangeForRenderUpdate(int x1, int y1, int z1, int x2, int y2, int z2) {}
+        @Override public void playSound(String sound, double x, double y, double z, float volume, float pitch) {}
+        @Override public void playSoundToNearExcept(EntityPlayer player, String sound, double x, double y, double z,
+                                                    float volume, float pitch) {}
+        @Override public void spawnParticle(String name, double x, double y, double z,
+                                            double mx, double my, double mz) {}
+        @Override public void onEntityCreate(Entity entity) {}
+        @Override public void playRecord(String record, int x, int y, int z) {}
+        @Override public void broadcastSound(int soundId, int x, int y, int z, int data) {}
+        @Override public void playAuxSFX(EntityPlayer player, int type, int x, int y, int z, int data) {}
+        @Override public void destroyBlockPartially(int breakerId, int x, int y, int z, int progress) {}
+        @Override public void onStaticEntitiesChanged() {}
+    }
+}
@@ -1,34 +1,63 @@
 package com.yourname.gtnhrocketanim;
 
-import java.util.HashMap;
+import cpw.mods.fml.common.FMLCommonHandler;
 import net.minecraft.entity.Entity;
+import net.minecraft.world.World;
 
 /**
  * Tracks state for rocket landing and takeoff animations.
- * Uses entity IDs as keys to avoid holding Entity references.
+ *
+ * Each rocket owns a single FlightState record.  Normally it lives in a
+ * synthetic field that RocketAnimTransformer adds to EntityCargoRocket (see
+ * IFlightStateHolder), so a lookup is one field load and the record is
+ * garbage-collected together with its entity.
+ *
+ * FALLBACK MAPS:
+ * Entities without the injected field (the transformer could not add it) use
+ * primitive int-keyed maps instead.  Client and server keep separate maps.
+ * In single-player both sides use the same entity IDs, so a client-side
+ * removal (rocket leaving tracking range) must never evict the server's
+ * record — that would lose a T5-T8 tier and write a downgraded GTNHCargoTier
+ * on the next save.
+ *
+ * INTEGRATED-SERVER TIER INDEX:
+ * Client entities never read NBT, so in single-player the client learns a
+ * T5-T8 tier from the integrated server's record for the same entity ID.
+ * Server records that get a tier are indexed by ID for that purpose — only
+ * when a client runs in the same JVM; a dedicated server keeps no ID table.
+ *
+ * Map entries are evicted by RocketStateEvents when the entity leaves its
+ * world (chunk unloads included, after the chunk is saved) and when the whole
+ * world unloads.  As a last line of defence, when a map grows past
+ * RocketAnimConfig.maxTrackedRockets the least-recently-touched half of the
+ * records that hold neither a tier nor a flight plan is dropped.  This is a
+ * soft limit: a record with a tier is never evicted that way (losing it would
+ * write a downgraded GTNHCargoTier on the rocket's next save), so a map may
+ * stay above it.  A sweep that leaves the map over the limit is not retried
+ * for another SWEEP_BACKOFF_DIVISOR-th of the limit's worth of touches.
  */
 public final class RocketStateTracker {
 
-    // ========== LANDING STATE ==========
-    private static final HashMap<Integer, Long>    landingStartTicks = new HashMap<>();
-    private static final HashMap<Integer, Double>  landingVelocity   = new HashMap<>();
+    private static final IntObjectMap<FlightState> serverStates = new IntObjectMap<>(64);
+    private static final IntObjectMap<FlightState> clientStates = new IntObjectMap<>(64);
 
-    // ========== TAKEOFF STATE ==========
-    private static final HashMap<Integer, Long>    takeoffStartTicks = new HashMap<>();
-    private static final HashMap<Integer, Double>  takeoffStartY     = new HashMap<>();
-    private static final HashMap<Integer, Boolean> takeoffLogged     = new HashMap<>();
+    /** Server records by entity ID, for the client-side tier fallback (single-player only). */
+    private static final IntObjectMap<FlightState> integratedServerStates = new IntObjectMap<>(64);
 
-    // ========== PENDING DESTINATION (for intercepted moveToDestination) ==========
-    private static final HashMap<Integer, int[]>   pendingDestination = new HashMap<>();
-    private static final HashMap<Integer, Integer> pendingFrequency   = new HashMap<>();
+    /** Bumped on every map touch; stamped into the record for overflow eviction. */
+    private static long touchClock = 0;
 
-    // ========== ATMOSPHERE DELAY ==========
-    private static final HashMap<Integer, Long> atmosphereDelayStart = new HashMap<>();
+    /** Total records dropped by the overflow sweep (debug / stats only). */
+    private static long overflowEvictions = 0;
 
-    // ========== CARGO TIER CACHE ==========
-    /** Caches the resolved CargoRocketTier for each entity, keyed by entity ID.
-     *  Populated by hookReadNbt and on first access in getCargoTier(). */
-    private static final HashMap<Integer, CargoRocketTier> cargoTierCache = new HashMap<>();
+    /** After a sweep that freed nothing, wait maxTrackedRockets / this many touches before the next. */
+    private static final int SWEEP_BACKOFF_DIVISOR = 4;
+
+    /** touchClock value before which no overflow sweep runs. */
+    private static long nextSweepAt = 0;
+
+    /** 0 = not checked yet, 1 = a client runs in this JVM, -1 = dedicated server. */
+    private static int clientInJvm = 0;
 
     private RocketStateTracker() {}
 
@@ -37,147 +66,103 @@ public final class RocketStateTracker {
         return e.getEntityId();
     }
 
-    // ========== LANDING METHODS ==========
-
-    public static Long getLandingStartTick(int entityId) {
-        return landingStartTicks.get(entityId);
-    }
-
-    public static void setLandingStartTick(int entityId, long tick) {
-        landingStartTicks.put(entityId, tick);
-    }
-
-    public static void clearLandingStartTick(int entityId) {
-        landingStartTicks.remove(entityId);
-    }
-
-    public static Double getLandingVelocity(int entityId) {
-        return landingVelocity.get(entityId);
-    }
-
-    public static void setLandingVelocity(int entityId, double velocity) {
-        landingVelocity.put(entityId, velocity);
-    }
-
-    public static void clearLandingVelocity(int entityId) {
-        landingVelocity.remove(entityId);
+    private static boolean isClient(Entity e) {
+        World w = e.worldObj;
+        return w != null && w.isRemote;
     }
 
-    public static void clearLandingState(int entityId) {
-        landingStartTicks.remove(entityId);
-        landingVelocity.remove(entityId);
+    private static IntObjectMap<FlightState> mapFor(Entity e) {
+        return isClient(e) ? clientStates : serverStates;
     }
 
-    // ========== TAKEOFF METHODS ==========
-
-    public static Long getTakeoffStartTick(int entityId) {
-        return takeoffStartTicks.get(entityId);
-    }
-
-    public static void setTakeoffStartTick(int entityId, long tick) {
-        takeoffStartTicks.put(entityId, tick);
+    private static boolean hasClientInJvm() {
+        if (clientInJvm == 0) {
+            clientInJvm = FMLCommonHandler.instance().getSide().isClient() ? 1 : -1;
+        }
+        return clientInJvm > 0;
     }
 
-    public static boolean hasTakeoffStartTick(int entityId) {
-        return takeoffStartTicks.containsKey(entityId);
+    private static int dimensionOf(Entity e) {
+        World w = e.worldObj;
+        return (w != null && w.provider != null) ? w.provider.dimensionId : 0;
     }
 
-    public static Double getTakeoffStartY(int entityId) {
-        return takeoffStartY.get(entityId);
-    }
+    // ========== STATE LOOKUP ==========
 
-    public static void setTakeoffStartY(int entityId, double y) {
-        takeoffStartY.put(entityId, y);
+    /** Returns the state for this entity, or null if nothing is tracked yet. */
+    public static FlightState get(Entity e) {
+        if (e instanceof IFlightStateHolder) {
+            return ((IFlightStateHolder) e).gtnhrocketanim$getFlightState();
+        }
+        return mapFor(e).get(e.getEntityId());
     }
 
-    public static boolean hasTakeoffStartY(int entityId) {
-        return takeoffStartY.containsKey(entityId);
-    }
-
-    public static Boolean getTakeoffLogged(int entityId) {
-        return takeoffLogged.get(entityId);
-    }
-
-    public static void setTakeoffLogged(int entityId, boolean logged) {
-        takeoffLogged.put(entityId, logged);
+    /** Returns the state for this entity, creating an empty record on first use. */
+    public static FlightState getOrCreate(Entity e) {
+        if (e instanceof IFlightStateHolder) {
+            return ((IFlightStateHolder) e).gtnhrocketanim$getFlightState();
+        }
+        IntObjectMap<FlightState> map = mapFor(e);
+        int entityId = e.getEntityId();
+        FlightState state = map.get(entityId);
+        if (state == null) {
+            state = new FlightState();
+            state.dimension = dimensionOf(e);
+            putBounded(map, entityId, state);
+        } else {
+            state.touchStamp = ++touchClock;
+        }
+        return state;
     }
 
     /**
-     * Returns true once takeoff has been initialised for this entity (i.e. once
-     * setTakeoffStartY has been called).  Used by shouldDelayAtmosphereTransition
-     * to avoid double-initialisation.
+     * Drops every piece of state for this entity that lives outside the entity
+     * itself.  A no-op for injected-field rockets apart from the tier index.
+     * Also ends any flight plan, so FlightSimulator releases the rocket's slot,
+     * and drops a landing's hold on its preloaded pad chunk.
      */
-    public static boolean hasTargetInitialized(int entityId) {
-        return takeoffStartY.containsKey(entityId);
-    }
+    public static void remove(Entity e) {
+        FlightState state = get(e);
+        if (state != null) {
+            state.clearFlightPlan();
+            if (!isClient(e)) DestinationPreloader.landingEnded(e.worldObj, state);
+        }
 
-    /**
-     * No-op – "initialised" state is implicitly tracked by the presence of a
-     * takeoffStartY entry.  Exists only so that shouldDelayAtmosphereTransition
-     * can call it without compile errors.
-     */
-    public static void setTargetInitialized(int entityId, boolean value) {
-        // intentional no-op: hasTakeoffStartY() is the authoritative check
+        int entityId = e.getEntityId();
+        if (isClient(e)) {
+            clientStates.remove(entityId);
+        } else {
+            serverStates.remove(entityId);
+            integratedServerStates.remove(entityId);
+        }
     }
 
-    public static void clearTakeoffState(int entityId) {
-        takeoffStartTicks.remove(entityId);
-        takeoffStartY.remove(entityId);
-        takeoffLogged.remove(entityId);
+    /** Drops every map record belonging to the given world (by side and dimension). */
+    public static int removeWorld(World w) {
+        if (w == null || w.provider == null) return 0;
+        final int dim = w.provider.dimensionId;
+        if (w.isRemote) {
+            return clientStates.removeIf(s -> s.dimension == dim);
+        }
+        return serverStates.removeIf(s -> s.dimension == dim)
+             + integratedServerStates.removeIf(s -> s.dimension == dim);
     }
 
-    public static void clearTakeoffTracking(int entityId) {
-        takeoffStartTicks.remove(entityId);
-        takeoffLogged.remove(entityId);
+    /** Live map record count across both sides — the tracker's size gauge. */
+    public static int size() {
+        return serverSize() + clientSize();
     }
 
-    // ========== PENDING DESTINATION METHODS ==========
-
-    public static int[] getPendingDestination(int entityId) {
-        return pendingDestination.get(entityId);
+    public static int serverSize() {
+        return serverStates.size() + integratedServerStates.size();
     }
 
-    public static void setPendingDestination(int entityId, int[] coords) {
-        pendingDestination.put(entityId, coords);
+    public static int clientSize() {
+        return clientStates.size();
     }
 
-    public static boolean hasPendingDestination(int entityId) {
-        return pendingDestination.containsKey(entityId);
-    }
-
-    public static Integer getPendingFrequency(int entityId) {
-        return pendingFrequency.get(entityId);
-    }
-
-    public static void setPendingFrequency(int entityId, int frequency) {
-        pendingFrequency.put(entityId, frequency);
-    }
-
-    public static void clearPendingDestination(int entityId) {
-        pendingDestination.remove(entityId);
-        pendingFrequency.remove(entityId);
-    }
-
-    public static void clearAllTakeoffData(int entityId) {
-        pendingDestination.remove(entityId);
-        pendingFrequency.remove(entityId);
-        takeoffStartTicks.remove(entityId);
-        takeoffStartY.remove(entityId);
-        takeoffLogged.remove(entityId);
-    }
-
-    // ========== ATMOSPHERE DELAY METHODS ==========
-
-    public static Long getAtmosphereDelayStart(int entityId) {
-        return atmosphereDelayStart.get(entityId);
-    }
-
-    public static void setAtmosphereDelayStart(int entityId, long tick) {
-        atmosphereDelayStart.put(entityId, tick);
-    }
-
-    public static void clearAtmosphereDelayStart(int entityId) {
-        atmosphereDelayStart.remove(entityId);
+    public static long getOverflowEvictions() {
+        return overflowEvictions;
     }
 
     // ========== CARGO TIER METHODS ==========
@@ -185,36 +170,104 @@ public final class RocketStateTracker {
     /**
      * Returns the cached CargoRocketTier for the given entity, or T2 as the default
      * if no tier has been set yet (e.g. a newly constructed entity before NBT is read).
+     *
+     * Client entities never read NBT, so on the client we fall back to the
+     * integrated server's record for the same ID (single-player only; on a
+     * dedicated-server client the index is always empty).
      */
-    public static CargoRocketTier getCargoTier(int entityId) {
-        CargoRocketTier tier = cargoTierCache.get(entityId);
+    public static CargoRocketTier getCargoTier(Entity e) {
+        CargoRocketTier tier = peekCargoTier(e, get(e));
         return tier != null ? tier : CargoRocketTier.T2;
     }
 
+    /**
+     * Returns the tier stored in {@code state} (the entity's own record, may be
+     * null), applying the same client-side fallback as getCargoTier, or null if
+     * no tier is known at all.
+     */
+    public static CargoRocketTier peekCargoTier(Entity e, FlightState state) {
+        CargoRocketTier tier = state != null ? state.cargoTier : null;
+        if (tier == null && isClient(e)) {
+            FlightState serverState = integratedServerStates.get(e.getEntityId());
+            if (serverState != null) tier = serverState.cargoTier;
+        }
+        return tier;
+    }
+
     /**
      * Stores the resolved tier for an entity so that every tick handler can look it
      * up cheaply without repeated reflection.  Called from hookReadNbt and from the
      * post-constructor hook (hookPostConstructorTierInit).
      */
-    public static void setCargoTier(int entityId, CargoRocketTier tier) {
-        cargoTierCache.put(entityId, tier);
+    public static void setCargoTier(Entity e, CargoRocketTier tier) {
+        FlightState state = getOrCreate(e);
+        state.cargoTier = tier;
+        if (!isClient(e) && hasClientInJvm()) {
+            int entityId = e.getEntityId();
+            if (integratedServerStates.get(entityId) != state) {
+                state.dimension = dimensionOf(e);
+                putBounded(integratedServerStates, entityId, state);
+            }
+        }
     }
 
     /**
      * Removes the cached tier (e.g. when the entity is removed from the world).
      */
-    public static void clearCargoTier(int entityId) {
-        cargoTierCache.remove(entityId);
+    public static void clearCargoTier(Entity e) {
+        FlightState state = get(e);
+        if (state != null) state.cargoTier = null;
+    }
+
+    // ========== BOUNDED SIZE ==========
+
+    private static void putBounded(IntObjectMap<FlightState> map, int entityId, FlightState state) {
+        state.touchStamp = ++touchClock;
+        map.put(entityId, state);
+        if (map.size() > RocketAnimConfig.maxTrackedRockets && touchClock >= nextSweepAt) {
+            evictLeastRecentlyTouched(map);
+        }
+    }
+
+    /**
+     * Drops the older half of the evictable records by touch stamp.  Only runs
+     * when the map overflows maxTrackedRockets, i.e. when the event-driven
+     * eviction has missed something, so the O(n log n) sort is amortised over
+     * many inserts.  Records holding a tier or a flight plan are kept; if
+     * the map is still over the limit afterwards the sweep backs off instead
+     * of re-running on every insert.
+     */
+    private static void evictLeastRecentlyTouched(IntObjectMap<FlightState> map) {
+        final long[] stamps = new long[map.size()];
+        final int[] n = { 0 };
+        map.forEachValue(s -> {
+            if (isEvictable(s)) stamps[n[0]++] = s.touchStamp;
+        });
+        if (n[0] == 0) {
+            nextSweepAt = touchClock + Math.max(1, RocketAnimConfig.maxTrackedRockets / SWEEP_BACKOFF_DIVISOR);
+            System.out.println("[GTNH Rocket Anim] WARN: state tracker holds " + map.size() + " records (limit "
+                               + RocketAnimConfig.maxTrackedRockets + "), all of them tiered or in flight; none evicted");
+            return;
+        }
+        java.util.Arrays.sort(stamps, 0, n[0]);
+        final long cutoff = n[0] > 1 ? stamps[n[0] / 2] : stamps[0] + 1;
+        int removed = map.removeIf(s -> isEvictable(s) && s.touchStamp < cutoff);
+        overflowEvictions += removed;
+        if (map.size() > RocketAnimConfig.maxTrackedRockets) {
+            // Mostly tiered records: do not sort again on every insert
+            nextSweepAt = touchClock + Math.max(1, RocketAnimConfig.maxTrackedRockets / SWEEP_BACKOFF_DIVISOR);
+        }
+        System.out.println("[GTNH Rocket Anim] WARN: state tracker exceeded " + RocketAnimConfig.maxTrackedRockets
+                           + " entries, evicted " + removed + " least-recently-used records");
+    }
+
+    private static boolean isEvictable(FlightState s) {
+        return s.cargoTier == null && s.planPhase == FlightState.PHASE_IDLE;
     }
 
     // ========== DEBUG INFO ==========
 
-    public static String getDebugInfo(int entityId) {
-        return "pendingDest=" + pendingDestination.containsKey(entityId) +
-               ", takeoffStartTicks=" + takeoffStartTicks.containsKey(entityId) +
-               ", takeoffStartY=" + takeoffStartY.containsKey(entityId) +
-               ", cargoTier=" + cargoTierCache.get(entityId) +
-               ", map sizes: pending=" + pendingDestination.size() +
-               ", ticks=" + takeoffStartTicks.size() + ", y=" + takeoffStartY.size();
+    public static String getDebugInfo(Entity e) {
+        return get(e) + ", injectedField=" + (e instanceof IFlightStateHolder) + ", mapRecords=" + size();
     }
 }
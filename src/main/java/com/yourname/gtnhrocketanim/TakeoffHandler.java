@@ -17,22 +17,18 @@ public final class TakeoffHandler {
      */
     public static boolean processTick(Entity rocket, World w, int launchPhase) {
         int entityId = RocketStateTracker.id(rocket);
+        FlightState state = RocketStateTracker.getOrCreate(rocket);
         
         // Get or initialize takeoff tracking
-        Long startTick = RocketStateTracker.getTakeoffStartTick(entityId);
-        Double startY = RocketStateTracker.getTakeoffStartY(entityId);
-        
-        if (startTick == null || startY == null) {
+        if (!state.hasTakeoffStartTick() || !state.hasTakeoffStartY()) {
             // Initialize if somehow missing
             System.out.println("[GTNH Rocket Anim] TAKEOFF: EntityID=" + entityId + 
-                             " - startTick/startY was NULL! " + RocketStateTracker.getDebugInfo(entityId));
-            startTick = w.getTotalWorldTime();
-            startY = rocket.posY;
-            RocketStateTracker.setTakeoffStartTick(entityId, startTick);
-            RocketStateTracker.setTakeoffStartY(entityId, startY);
+                             " - startTick/startY was unset! " + RocketStateTracker.getDebugInfo(rocket));
+            state.takeoffStartTick = w.getTotalWorldTime();
+            state.takeoffStartY    = rocket.posY;
         }
         
-        long ticksInTakeoff = w.getTotalWorldTime() - startTick;
+        long ticksInTakeoff = w.getTotalWorldTime() - state.takeoffStartTick;
         
         // Log takeoff progress every 20 ticks
         if (ticksInTakeoff % 20 == 0) {
@@ -55,7 +51,7 @@ public final class TakeoffHandler {
         
         // Check if we've reached the altitude threshold
         if (rocket.posY >= RocketAnimConfig.takeoffAltitudeThreshold) {
-            triggerTeleport(rocket, entityId);
+            triggerTeleport(rocket, state);
             return false; // Animation complete
         }
         
@@ -84,21 +80,19 @@ public final class TakeoffHandler {
     /**
      * Trigger the teleport to the destination.
      */
-    private static void triggerTeleport(Entity rocket, int entityId) {
-        int[] pendingDest = RocketStateTracker.getPendingDestination(entityId);
-        Integer freq = RocketStateTracker.getPendingFrequency(entityId);
-        if (freq == null) freq = 0;
+    private static void triggerTeleport(Entity rocket, FlightState state) {
+        int freq = state.pendingFrequency;
         
         System.out.println("[GTNH Rocket Anim] Takeoff complete! Reached Y=" + 
                          String.format("%.1f", rocket.posY) + 
                          " (threshold: " + RocketAnimConfig.takeoffAltitudeThreshold +
                          "). Teleporting to destination: (" + 
-                         pendingDest[0] + ", " + pendingDest[1] + ", " + pendingDest[2] + ")");
+                         state.destX + ", " + state.destY + ", " + state.destZ + ")");
         
         // Calculate arrival height
         int arrivalHeight = RocketAnimConfig.landingSpawnHeight;
         
-        // Set landing flag using reflection
+        // Set landing flag
         setLandingFlag(rocket, true);
         
         // Zero motion before teleport
@@ -107,9 +101,9 @@ public final class TakeoffHandler {
         rocket.motionZ = 0;
         
         // Teleport to destination
-        double teleportX = pendingDest[0] + 0.5D;
-        double teleportY = pendingDest[1] + arrivalHeight + (freq == 1 ? 0 : 1);
-        double teleportZ = pendingDest[2] + 0.5D;
+        double teleportX = state.destX + 0.5D;
+        double teleportY = state.destY + arrivalHeight + (freq == 1 ? 0 : 1);
+        double teleportZ = state.destZ + 0.5D;
         
         rocket.setPosition(teleportX, teleportY, teleportZ);
         
@@ -119,24 +113,15 @@ public final class TakeoffHandler {
                          String.format("%.1f", teleportZ) + ")");
         
         // Clear all takeoff data - landing animation will take over
-        RocketStateTracker.clearAllTakeoffData(entityId);
+        state.clearAllTakeoff();
     }
     
     /**
-     * Set the landing flag on the rocket using reflection.
+     * Set the landing flag on the rocket (generated accessor, MethodHandle fallback).
      */
     private static void setLandingFlag(Entity rocket, boolean value) {
-        try {
-            java.lang.reflect.Field landingField = rocket.getClass().getField("landing");
-            landingField.setBoolean(rocket, value);
-        } catch (Exception e) {
-            // Try superclass
-            try {
-                java.lang.reflect.Field landingField = rocket.getClass().getSuperclass().getField("landing");
-                landingField.setBoolean(rocket, value);
-            } catch (Exception e2) {
-                System.out.println("[GTNH Rocket Anim] Failed to set landing flag: " + e2);
-            }
+        if (!GCAccessors.setLanding(rocket, value)) {
+            System.out.println("[GTNH Rocket Anim] Failed to set landing flag");
         }
     }
 }
@@ -0,0 +1,56 @@
+package com.yourname.gtnhrocketanim;
+
+import net.minecraftforge.fluids.FluidRegistry;
+
+/**
+ * Per-tier fuel requirement compiled down to a Forge Fluid instance.
+ *
+ * hookFuelLoaderTierCheck runs for every fuel loader every tick, so the
+ * configured fluid names (RocketAnimConfig.tierFuelFluid) are resolved to
+ * Fluid objects once and the check becomes a reference comparison against
+ * FluidStack.getFluid().  Fluid IDs are not cached: Forge remaps them per
+ * save and when joining a server, while the Fluid instances stay the same.
+ *
+ * Resolution is lazy rather than at config load: config is read in preInit,
+ * before most mods have registered their fluids.  FluidCacheEvents resets the
+ * table whenever a fluid is registered.
+ */
+public final class TierFuelRules {
+
+    /** Tier accepts any fuel GC accepts (T1/T2, or blank config). */
+    public static final Object ANY_FUEL = new Object();
+
+    /** Per tier ordinal: the required Fluid, ANY_FUEL, or null if the configured fluid is not registered. */
+    private static volatile Object[] requiredFluid;
+
+    private TierFuelRules() {}
+
+    /**
+     * Returns the Fluid the tier requires, ANY_FUEL, or null if the configured
+     * fluid is not registered (nothing matches it, as before).
+     */
+    public static Object requiredFluid(CargoRocketTier tier) {
+        Object[] fluids = requiredFluid;
+        if (fluids == null) fluids = compile();
+        return fluids[tier.ordinal()];
+    }
+
+    public static void reset() {
+        requiredFluid = null;
+    }
+
+    private static Object[] compile() {
+        CargoRocketTier[] tiers = CargoRocketTier.values();
+        Object[] fluids = new Object[tiers.length];
+        for (CargoRocketTier tier : tiers) {
+            String name = RocketAnimConfig.getFuelFluid(tier);
+            if (tier == CargoRocketTier.T1 || tier == CargoRocketTier.T2 || name == null || name.isEmpty()) {
+                fluids[tier.ordinal()] = ANY_FUEL;
+            } else {
+                fluids[tier.ordinal()] = FluidRegistry.getFluid(name);
+            }
+        }
+        requiredFluid = fluids;
+        return fluids;
+    }
+}
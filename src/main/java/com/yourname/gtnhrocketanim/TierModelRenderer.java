@@ -0,0 +1,217 @@
+package com.yourname.gtnhrocketanim;
+
+import cpw.mods.fml.relauncher.Side;
+import cpw.mods.fml.relauncher.SideOnly;
+import net.minecraft.client.Minecraft;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.client.model.AdvancedModelLoader;
+import net.minecraftforge.client.model.IModelCustom;
+import net.minecraftforge.client.model.obj.WavefrontObject;
+import org.lwjgl.opengl.GL11;
+
+/**
+ * Draws cargo rocket models from compiled display lists.
+ *
+ * WavefrontObject.renderAll() is immediate mode: it pushes every vertex of
+ * the OBJ through the Tessellator again each frame.  Each model is instead
+ * recorded once into a display list the first time it is drawn — for T3-T8
+ * with the TIER_MODEL_SCALE correction baked in — and afterwards drawn with a
+ * single glCallList.  The texture is bound by renderBuggy before the call and
+ * is not part of the list.
+ *
+ * Level of detail by distance to the camera (RocketModelLod): the full model
+ * up to RocketAnimConfig.lodMediumDistance, a decimated mesh up to
+ * lodFarDistance, a billboard beyond.  The lower levels are built from the
+ * OBJ faces the first time a model is needed at that range.
+ *
+ * With RocketAnimConfig.compileRocketModels off, or if a list cannot be
+ * allocated, models are drawn with renderAll() as before (no LOD).
+ *
+ * Only reached from RocketAnimHooks.hookRenderModel, i.e. on the client.
+ */
+@SideOnly(Side.CLIENT)
+public final class TierModelRenderer {
+
+    /**
+     * Scale correction applied when rendering T3-T8 OBJ models inside renderBuggy.
+     *
+     * renderBuggy applies glScalef(0.4, 0.4, 0.4) before calling renderAll.
+     * GC Asteroids (T3) and GalaxySpace (T4-T8) renderers both apply glScalef(0.9, 0.9, 0.9).
+     * To match the intended size: 0.9 / 0.4 = 2.25
+     */
+    private static final double TIER_MODEL_SCALE = 2.25;
+
+    /** OBJ models keyed by CargoRocketTier ordinal (T3-T8 only). */
+    private static final IModelCustom[] TIER_MODELS = new IModelCustom[CargoRocketTier.values().length];
+    private static boolean modelsInitialized = false;
+
+    /** Display lists keyed by tier ordinal: 0 = not compiled yet, -1 = compilation failed. */
+    private static final int[] TIER_LISTS = new int[CargoRocketTier.values().length];
+
+    /** Lower levels keyed by tier ordinal; LOD_TRIED marks models that had none to build. */
+    private static final RocketModelLod[] TIER_LODS = new RocketModelLod[CargoRocketTier.values().length];
+    private static final boolean[]        LOD_TRIED = new boolean[CargoRocketTier.values().length];
+
+    /** GC's own cargo rocket model (T1/T2), compiled on first use as well. */
+    private static Object         defaultModel;
+    private static int            defaultList;
+    private static RocketModelLod defaultLod;
+    private static boolean        defaultLodTried;
+
+    private static final int LOD_FULL   = 0;
+    private static final int LOD_MEDIUM = 1;
+    private static final int LOD_FAR    = 2;
+
+    private TierModelRenderer() {}
+
+    /**
+     * Draws the rocket's model in renderBuggy's GL state.
+     * T1/T2 (and tiers whose model failed to load) draw GC's cargo model.
+     */
+    public static void render(Object cargoModel, CargoRocketTier tier, Entity entity) {
+        int lod = RocketAnimConfig.compileRocketModels ? lodLevel(entity) : LOD_FULL;
+        if (tier != CargoRocketTier.T1 && tier != CargoRocketTier.T2) {
+            ensureTierModels();
+            IModelCustom model = TIER_MODELS[tier.ordinal()];
+            if (model != null) {
+                if (!RocketAnimConfig.compileRocketModels) {
+                    renderScaled(model);
+                    return;
+                }
+                if (lod != LOD_FULL) {
+                    int o = tier.ordinal();
+                    if (!LOD_TRIED[o]) {
+                        LOD_TRIED[o] = true;
+                        if (model instanceof WavefrontObject) {
+                            TIER_LODS[o] = RocketModelLod.build((WavefrontObject) model, TIER_MODEL_SCALE, tier.name());
+                        }
+                    }
+                    if (TIER_LODS[o] != null) {
+                        GL11.glCallList(lod == LOD_FAR ? TIER_LODS[o].farList : TIER_LODS[o].mediumList);
+                        return;
+                    }
+                }
+                int list = TIER_LISTS[tier.ordinal()];
+                if (list == 0) list = TIER_LISTS[tier.ordinal()] = compile(model, TIER_MODEL_SCALE);
+                if (list > 0) GL11.glCallList(list);
+                else renderScaled(model);
+                return;
+            }
+        }
+        renderDefault(cargoModel, lod);
+    }
+
+    /** LOD_FULL, LOD_MEDIUM or LOD_FAR for the entity's distance to the camera. */
+    private static int lodLevel(Entity entity) {
+        int medium = RocketAnimConfig.lodMediumDistance;
+        int far    = RocketAnimConfig.lodFarDistance;
+        if ((medium <= 0 && far <= 0) || entity == null) return LOD_FULL;
+        Entity view = Minecraft.getMinecraft().renderViewEntity;
+        if (view == null) return LOD_FULL;
+        double d2 = entity.getDistanceSq(view.posX, view.posY, view.posZ);
+        if (far > 0 && d2 > (double) far * far) return LOD_FAR;
+        if (medium > 0 && d2 > (double) medium * medium) return LOD_MEDIUM;
+        return LOD_FULL;
+    }
+
+    private static void renderDefault(Object cargoModel, int lod) {
+        if (!(cargoModel instanceof IModelCustom)) {
+            // Not a Forge OBJ model in this GC build: nothing to compile, call it as before
+            try {
+                cargoModel.getClass().getMethod("renderAll").invoke(cargoModel);
+            } catch (Exception e) {
+                if (RocketAnimConfig.debugLogging) {
+                    System.out.println("[GTNH Rocket Anim] renderAll failed: " + e);
+                }
+            }
+            return;
+        }
+        IModelCustom model = (IModelCustom) cargoModel;
+        if (!RocketAnimConfig.compileRocketModels) {
+            model.renderAll();
+            return;
+        }
+        if (cargoModel != defaultModel) {
+            if (defaultList > 0) GL11.glDeleteLists(defaultList, 1);
+            if (defaultLod != null) defaultLod.delete();
+            defaultModel    = cargoModel;
+            defaultList     = compile(model, 1.0D);
+            defaultLod      = null;
+            defaultLodTried = false;
+        }
+        if (lod != LOD_FULL) {
+            if (!defaultLodTried) {
+                defaultLodTried = true;
+                if (model instanceof WavefrontObject) {
+                    defaultLod = RocketModelLod.build((WavefrontObject) model, 1.0D, "Cargo rocket");
+                }
+            }
+            if (defaultLod != null) {
+                GL11.glCallList(lod == LOD_FAR ? defaultLod.farList : defaultLod.mediumList);
+                return;
+            }
+        }
+        if (defaultList > 0) GL11.glCallList(defaultList);
+        else model.renderAll();
+    }
+
+    private static void renderScaled(IModelCustom model) {
+        GL11.glPushMatrix();
+        GL11.glScaled(TIER_MODEL_SCALE, TIER_MODEL_SCALE, TIER_MODEL_SCALE);
+        model.renderAll();
+        GL11.glPopMatrix();
+    }
+
+    /** Records model.renderAll() at the given scale into a new display list; -1 on failure. */
+    private static int compile(IModelCustom model, double scale) {
+        int list = GL11.glGenLists(1);
+        if (list == 0) {
+            System.out.println("[GTNH Rocket Anim] Could not allocate a display list, drawing models directly");
+            return -1;
+        }
+        GL11.glNewList(list, GL11.GL_COMPILE);
+        try {
+            if (scale != 1.0D) {
+                GL11.glPushMatrix();
+                GL11.glScaled(scale, scale, scale);
+            }
+            model.renderAll();
+            if (scale != 1.0D) GL11.glPopMatrix();
+        } finally {
+            GL11.glEndList();
+        }
+        if (RocketAnimConfig.debugLogging) {
+            System.out.println("[GTNH Rocket Anim] Compiled rocket model into display list " + list);
+        }
+        return list;
+    }
+
+    private static void ensureTierModels() {
+        if (modelsInitialized) return;
+        modelsInitialized = true;
+
+        // T3: GC Asteroids
+        try {
+            TIER_MODELS[CargoRocketTier.T3.ordinal()] = AdvancedModelLoader.loadModel(
+                    new ResourceLocation("galacticraftasteroids", "models/tier3rocket.obj"));
+            System.out.println("[GTNH Rocket Anim] T3 model loaded");
+        } catch (Exception e) {
+            System.out.println("[GTNH Rocket Anim] Could not load T3 model: " + e);
+        }
+
+        // T4-T8: GalaxySpace
+        for (CargoRocketTier t : new CargoRocketTier[]{
+                CargoRocketTier.T4, CargoRocketTier.T5, CargoRocketTier.T6,
+                CargoRocketTier.T7, CargoRocketTier.T8}) {
+            int n = t.ordinal() + 1;
+            try {
+                TIER_MODELS[t.ordinal()] = AdvancedModelLoader.loadModel(
+                        new ResourceLocation("galaxyspace", "models/tier" + n + "rocket.obj"));
+                System.out.println("[GTNH Rocket Anim] T" + n + " model loaded");
+            } catch (Exception e) {
+                System.out.println("[GTNH Rocket Anim] Could not load T" + n + " model: " + e);
+            }
+        }
+    }
+}
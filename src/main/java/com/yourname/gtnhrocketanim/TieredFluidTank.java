@@ -1,5 +1,6 @@
 package com.yourname.gtnhrocketanim;
 
+import net.minecraftforge.fluids.Fluid;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.FluidTank;
 
@@ -20,24 +21,43 @@ import net.minecraftforge.fluids.FluidTank;
 public class TieredFluidTank extends FluidTank {
 
     // ---------------------------------------------------------------
-    //  Cached reflection to FluidUtil.testFuel(String)
-    //  If GC is present the real method is used; otherwise we fall
-    //  back to an inline mirror of the same logic.
+    //  Per-fluid-ID verdict cache
+    //  fill() runs every tick for every docked rocket, so the testFuel
+    //  result is memoised by fluid ID.  The Fluid is stored next to the
+    //  verdict and compared by identity, which also catches the ID remap
+    //  a client does when joining a server.  Cleared on FluidRegisterEvent
+    //  (FluidCacheEvents).
     // ---------------------------------------------------------------
 
-    private static java.lang.reflect.Method TEST_FUEL = null;
-    private static volatile boolean testFuelReady = false;
+    private static Fluid[]   verdictFluid = new Fluid[256];
+    private static boolean[] verdictValid = new boolean[256];
 
-    private static synchronized void ensureTestFuel() {
-        if (testFuelReady) return;
-        testFuelReady = true;
-        try {
-            Class<?> fu = Class.forName(
-                "micdoodle8.mods.galacticraft.core.util.FluidUtil");
-            TEST_FUEL = fu.getMethod("testFuel", String.class);
-        } catch (Exception ignored) {
-            // server without GC, or early class-loading — fallback used
+    /** Returns true if {@code fluid} (registered under {@code fluidId}) is valid rocket fuel. */
+    static boolean isValidFuel(Fluid fluid, int fluidId) {
+        Fluid[] fluids = verdictFluid;
+        boolean[] valid = verdictValid;
+        if (fluidId >= 0 && fluidId < fluids.length && fluids[fluidId] == fluid) {
+            return valid[fluidId];
         }
+
+        boolean result = isValidGCFuel(fluid.getName());
+        if (fluidId >= 0) {
+            if (fluidId >= fluids.length) {
+                int size = Math.max(fluidId + 1, fluids.length * 2);
+                fluids = java.util.Arrays.copyOf(fluids, size);
+                valid  = java.util.Arrays.copyOf(valid, size);
+            }
+            valid[fluidId]  = result;
+            fluids[fluidId] = fluid;
+            verdictValid = valid;
+            verdictFluid = fluids;
+        }
+        return result;
+    }
+
+    public static void clearFuelCache() {
+        verdictFluid = new Fluid[verdictFluid.length];
+        verdictValid = new boolean[verdictValid.length];
     }
 
     /**
@@ -46,11 +66,11 @@ public class TieredFluidTank extends FluidTank {
      */
     static boolean isValidGCFuel(String name) {
         if (name == null) return false;
-        ensureTestFuel();
-        if (TEST_FUEL != null) {
+        // GC's own FluidUtil.testFuel when present
+        if (GCAccessors.TEST_FUEL != null) {
             try {
-                return (Boolean) TEST_FUEL.invoke(null, name);
-            } catch (Exception ignored) {}
+                return (boolean) GCAccessors.TEST_FUEL.invokeExact(name);
+            } catch (Throwable ignored) {}
         }
         // Inline fallback — identical logic to FluidUtil.testFuel()
         if (name.startsWith("fuel")) return true;
@@ -64,10 +84,27 @@ public class TieredFluidTank extends FluidTank {
         super(capacity);
     }
 
+    /**
+     * Changes the capacity in place, so a tier change on NBT load costs no
+     * allocation.  Fuel above the new capacity is discarded, and anything
+     * that is not valid rocket fuel (readFromNBT bypasses fill) is dropped —
+     * the same result as refilling a fresh tank.
+     */
+    public void resize(int newCapacity) {
+        capacity = newCapacity;
+        if (fluid == null) return;
+        if (fluid.getFluid() == null || !isValidFuel(fluid.getFluid(), fluid.getFluidID()) || fluid.amount <= 0) {
+            fluid = null;
+        } else if (fluid.amount > newCapacity) {
+            fluid.amount = newCapacity;
+        }
+    }
+
     @Override
     public int fill(FluidStack resource, boolean doFill) {
-        if (resource == null || resource.getFluid() == null) return 0;
-        if (!isValidGCFuel(resource.getFluid().getName())) return 0;
+        if (resource == null) return 0;
+        Fluid fluid = resource.getFluid();
+        if (fluid == null || !isValidFuel(fluid, resource.getFluidID())) return 0;
         return super.fill(resource, doFill);
     }
 }
@@ -0,0 +1,105 @@
+package com.yourname.gtnhrocketanim;
+
+/**
+ * Precomputed takeoff and landing speed curves for one cargo rocket tier.
+ *
+ * The per-tick formulas
+ *   takeoff:  baseSpeed × (1 + progress × accelFactor)²
+ *   landing:  min + (max - min) × √(min(heightAbovePad, 100) / 100)
+ * are sampled once, when the config is loaded, into small float tables; a
+ * tick then does one clamped, linearly interpolated table read instead of
+ * Math.pow / Math.sqrt plus several config lookups.
+ *
+ * A profile depends only on its five parameters, so any side that builds it
+ * from the same numbers gets exactly the same curve.
+ */
+public final class TrajectoryProfile {
+
+    /** Samples over takeoff progress 0..1. */
+    public static final int ASCENT_SAMPLES  = 256;
+    /** Samples over 0..DESCENT_RANGE blocks above the pad; dense because √ is steep near 0. */
+    public static final int DESCENT_SAMPLES = 1024;
+    /** Height above the pad at which the landing curve reaches max descent speed. */
+    public static final double DESCENT_RANGE = 100.0D;
+
+    public final float baseSpeed;
+    public final float accelFactor;
+    public final float maxAscentSpeed;
+    public final float maxDescentSpeed;
+    public final float minDescentSpeed;
+
+    private final float[] ascent;
+    private final float[] descent;
+
+    private static volatile TrajectoryProfile[] byTier;
+
+    public TrajectoryProfile(float baseSpeed, float accelFactor, float maxAscentSpeed,
+                             float maxDescentSpeed, float minDescentSpeed) {
+        this.baseSpeed       = baseSpeed;
+        this.accelFactor     = accelFactor;
+        this.maxAscentSpeed  = maxAscentSpeed;
+        this.maxDescentSpeed = maxDescentSpeed;
+        this.minDescentSpeed = minDescentSpeed;
+
+        ascent = new float[ASCENT_SAMPLES];
+        for (int i = 0; i < ASCENT_SAMPLES; i++) {
+            double p = i / (double) (ASCENT_SAMPLES - 1);
+            double m = 1.0D + p * accelFactor;
+            ascent[i] = (float) (baseSpeed * m * m);
+        }
+
+        descent = new float[DESCENT_SAMPLES];
+        for (int i = 0; i < DESCENT_SAMPLES; i++) {
+            double h = i / (double) (DESCENT_SAMPLES - 1);
+            descent[i] = (float) (minDescentSpeed + (maxDescentSpeed - minDescentSpeed) * Math.sqrt(h));
+        }
+    }
+
+    // ========== REGISTRY ==========
+
+    /** Profile for the tier built from the current config. */
+    public static TrajectoryProfile of(CargoRocketTier tier) {
+        TrajectoryProfile[] profiles = byTier;
+        if (profiles == null) profiles = rebuild();
+        return profiles[tier.ordinal()];
+    }
+
+    /** Rebuilds every tier's tables from RocketAnimConfig.  Called after config load. */
+    public static TrajectoryProfile[] rebuild() {
+        CargoRocketTier[] tiers = CargoRocketTier.values();
+        TrajectoryProfile[] profiles = new TrajectoryProfile[tiers.length];
+        for (CargoRocketTier tier : tiers) {
+            profiles[tier.ordinal()] = new TrajectoryProfile(
+                (float) RocketAnimConfig.getTierBaseSpeed(tier),
+                (float) RocketAnimConfig.getTierAccelFactor(tier),
+                (float) RocketAnimConfig.getTierMaxAscentSpeed(tier),
+                (float) RocketAnimConfig.getTierMaxDescentSpeed(tier),
+                (float) RocketAnimConfig.minDescentSpeed);
+        }
+        byTier = profiles;
+        return profiles;
+    }
+
+    // ========== LOOKUPS ==========
+
+    /** baseSpeed × (1 + progress × accelFactor)², progress clamped to 0..1. */
+    public double ascentSpeed(double progress) {
+        return sample(ascent, progress);
+    }
+
+    /** Landing descent speed (positive, blocks/tick) at the given height above the pad. */
+    public double descentSpeed(double heightAbovePad) {
+        return sample(descent, heightAbovePad / DESCENT_RANGE);
+    }
+
+    /** Linear interpolation over a table spanning t = 0..1; t is clamped (NaN reads as 0). */
+    private static double sample(float[] table, double t) {
+        if (!(t > 0.0D)) return table[0];
+        int last = table.length - 1;
+        if (t >= 1.0D) return table[last];
+        double x = t * last;
+        int i = (int) x;
+        double frac = x - i;
+        return table[i] + (table[i + 1] - table[i]) * frac;
+    }
+}
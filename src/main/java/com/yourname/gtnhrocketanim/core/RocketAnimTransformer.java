@@ -1,6 +1,7 @@
 package com.yourname.gtnhrocketanim.core;
 
 import net.minecraft.launchwrapper.IClassTransformer;
+import net.minecraft.launchwrapper.Launch;
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.Opcodes;
@@ -18,6 +19,10 @@ import org.objectweb.asm.tree.*;
  *  6) readEntityFromNBT(NBTTagCompound)  — caches tier, resizes tank after load
  *  7) writeEntityToNBT(NBTTagCompound)   — persists GTNHCargoTier NBT tag
  *  8) getSizeInventory()        — returns tier-appropriate slot count
+ * 12) gtnhrocketanim$flightState — synthetic per-entity FlightState field plus the
+ *                                  IFlightStateHolder getter that lazily creates it
+ * 13) ICargoRocketAccess         — generated getters/setters for rocketType, fuelTank,
+ *                                  landing, targetVec and destinationFrequency
  *
  * Patches RenderCargoRocket:
  *  9) renderBuggy(...)          — swaps static texture with tier-specific one
@@ -25,6 +30,13 @@ import org.objectweb.asm.tree.*;
  *
  * Patches TileEntityFuelLoader:
  * 11) isCorrectFuel(IFuelable)  — enforces tier-specific fuel type before GC's class check
+ *
+ * Patches EntitySpaceshipBase / EntityAutoRocket (whichever initialises fuelTank):
+ * 14) <init>                    — new FluidTank(cap) → hookCreateFuelTank(this, cap), so
+ *                                 cargo rockets start with a TieredFluidTank
+ *
+ * Patches TileEntityLandingPad (overrides generated where GC has none):
+ * 15) validate / invalidate / onChunkUnload — keep LandingPadIndex up to date
  */
 public class RocketAnimTransformer implements IClassTransformer {
 
@@ -51,6 +63,14 @@ public class RocketAnimTransformer implements IClassTransformer {
     // Superclass where landing/targetVec/launchPhase/timeSinceLaunch live
     private static final String AUTO_ROCKET =
             "micdoodle8/mods/galacticraft/api/prefab/entity/EntityAutoRocket";
+    private static final String AUTO_ROCKET_DOT =
+            "micdoodle8.mods.galacticraft.api.prefab.entity.EntityAutoRocket";
+    private static final String SPACESHIP_BASE_DOT =
+            "micdoodle8.mods.galacticraft.api.prefab.entity.EntitySpaceshipBase";
+
+    // ---- TileEntityLandingPad ----
+    private static final String LANDING_PAD_DOT =
+            "micdoodle8.mods.galacticraft.core.tile.TileEntityLandingPad";
 
     private static final String BLOCKVEC3 =
             "micdoodle8/mods/galacticraft/api/vector/BlockVec3";
@@ -71,11 +91,28 @@ public class RocketAnimTransformer implements IClassTransformer {
     private boolean patchedRenderBuggy         = false;
     private boolean patchedGetEntityTexture    = false;
     private boolean patchedFuelLoader          = false;
+    private boolean injectedFlightState        = false;
+    private boolean injectedCargoAccess        = false;
+    private int     patchedLandingPad          = 0;
 
     // ---- Hooks class (internal ASM name) ----
     private static final String HOOKS =
             "com/yourname/gtnhrocketanim/RocketAnimHooks";
 
+    // ---- Injected per-entity state ----
+    private static final String FLIGHT_STATE =
+            "com/yourname/gtnhrocketanim/FlightState";
+    private static final String FLIGHT_STATE_HOLDER =
+            "com/yourname/gtnhrocketanim/IFlightStateHolder";
+    private static final String FLIGHT_STATE_FIELD  = "gtnhrocketanim$flightState";
+    private static final String FLIGHT_STATE_GETTER = "gtnhrocketanim$getFlightState";
+
+    // ---- Generated field accessors ----
+    private static final String CARGO_ACCESS =
+            "com/yourname/gtnhrocketanim/ICargoRocketAccess";
+    private static final String FLUID_TANK =
+            "net/minecraftforge/fluids/FluidTank";
+
     @Override
     public byte[] transform(String name, String transformedName, byte[] basicClass) {
         if (basicClass == null) return null;
@@ -89,6 +126,12 @@ public class RocketAnimTransformer implements IClassTransformer {
         if (FUEL_LOADER_DOT.equals(name)) {
             return transformFuelLoader(basicClass);
         }
+        if (AUTO_ROCKET_DOT.equals(name) || SPACESHIP_BASE_DOT.equals(name)) {
+            return transformRocketBase(basicClass);
+        }
+        if (LANDING_PAD_DOT.equals(name)) {
+            return transformLandingPad(basicClass);
+        }
         return basicClass;
     }
 
@@ -107,6 +150,9 @@ public class RocketAnimTransformer implements IClassTransformer {
             System.out.println("[GTNH Rocket Anim]   " + mn.name + mn.desc);
         }
 
+        // Some forks drop destinationFrequency; the tick hook then gets -1 for it
+        boolean hasDestFrequency = checkField(cn, "destinationFrequency", "I", false);
+
         for (MethodNode mn : cn.methods) {
 
             // (1) moveToDestination
@@ -120,7 +166,7 @@ public class RocketAnimTransformer implements IClassTransformer {
             if ((mn.name.equals("func_70071_h_") || mn.name.equals("onUpdate"))
                     && "()V".equals(mn.desc)) {
                 System.out.println("[GTNH Rocket Anim] Patching " + mn.name + "()V (tick)");
-                injectTickHook(mn);
+                injectTickHook(mn, hasDestFrequency);
                 patchedTick = true;
             }
 
@@ -180,6 +226,14 @@ public class RocketAnimTransformer implements IClassTransformer {
         logMissing("writeEntityToNBT", patchedWriteNbt);
         logMissing("getSizeInventory", patchedSizeInventory);
 
+        // (12) per-entity FlightState field — hooks fall back to RocketStateTracker's maps without it
+        injectedFlightState = injectFlightStateField(cn);
+        logMissing("FlightState field (" + FLIGHT_STATE_FIELD + ")", injectedFlightState);
+
+        // (13) direct field accessors — hooks fall back to GCAccessors without them
+        injectedCargoAccess = injectCargoRocketAccess(cn);
+        logMissing("ICargoRocketAccess", injectedCargoAccess);
+
         ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES);
         cn.accept(cw);
         return cw.toByteArray();
@@ -224,6 +278,79 @@ public class RocketAnimTransformer implements IClassTransformer {
         return cw.toByteArray();
     }
 
+    // ==========================================================================
+    //  EntitySpaceshipBase / EntityAutoRocket transform
+    // ==========================================================================
+
+    /**
+     * (14) Routes the fuelTank field initialiser through hookCreateFuelTank.
+     * GC's field initialiser is {@code fuelTank = new FluidTank(getFuelTankCapacity() * factor)};
+     * we keep the capacity expression and only swap the allocation.  Applied
+     * to both base classes because forks disagree on which one declares it;
+     * a class without the pattern is returned untouched.
+     */
+    private byte[] transformRocketBase(byte[] basicClass) {
+        ClassNode cn = new ClassNode();
+        new ClassReader(basicClass).accept(cn, 0);
+
+        int patched = 0;
+        for (MethodNode mn : cn.methods) {
+            if ("<init>".equals(mn.name)) {
+                patched += patchFuelTankAllocation(mn);
+            }
+        }
+        if (patched == 0) return basicClass;
+
+        System.out.println("[GTNH Rocket Anim] " + cn.name + ": " + patched + " fuelTank allocation(s) patched");
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES);
+        cn.accept(cw);
+        return cw.toByteArray();
+    }
+
+    /**
+     * Rewrites every
+     *   NEW FluidTank; DUP; <capacity>; INVOKESPECIAL FluidTank.<init>(I)V; PUTFIELD fuelTank
+     * into
+     *   <capacity>; ALOAD 0; SWAP; INVOKESTATIC hookCreateFuelTank(Object,I)FluidTank; PUTFIELD fuelTank
+     * The receiver for PUTFIELD is already below NEW on the stack, so it is untouched.
+     */
+    private int patchFuelTankAllocation(MethodNode mn) {
+        int count = 0;
+        for (AbstractInsnNode insn : mn.instructions.toArray()) {
+            if (insn.getOpcode() != Opcodes.NEW || !FLUID_TANK.equals(((TypeInsnNode) insn).desc)) continue;
+            AbstractInsnNode dup = insn.getNext();
+            if (dup == null || dup.getOpcode() != Opcodes.DUP) continue;
+
+            // Find the matching <init>(I)V; bail out on anything nested
+            AbstractInsnNode init = dup.getNext();
+            while (init != null && init.getOpcode() != Opcodes.NEW
+                    && !(init.getOpcode() == Opcodes.INVOKESPECIAL
+                         && FLUID_TANK.equals(((MethodInsnNode) init).owner)
+                         && "<init>".equals(((MethodInsnNode) init).name))) {
+                init = init.getNext();
+            }
+            if (init == null || init.getOpcode() != Opcodes.INVOKESPECIAL
+                    || !"(I)V".equals(((MethodInsnNode) init).desc)) continue;
+
+            AbstractInsnNode store = init.getNext();
+            if (store == null || store.getOpcode() != Opcodes.PUTFIELD
+                    || !"fuelTank".equals(((FieldInsnNode) store).name)) continue;
+
+            InsnList call = new InsnList();
+            call.add(new VarInsnNode(Opcodes.ALOAD, 0));
+            call.add(new InsnNode(Opcodes.SWAP));
+            call.add(new MethodInsnNode(Opcodes.INVOKESTATIC, HOOKS,
+                    "hookCreateFuelTank",
+                    "(Ljava/lang/Object;I)L" + FLUID_TANK + ";", false));
+            mn.instructions.insertBefore(init, call);
+            mn.instructions.remove(init);
+            mn.instructions.remove(dup);
+            mn.instructions.remove(insn);
+            count++;
+        }
+        return count;
+    }
+
     // ==========================================================================
     //  TileEntityFuelLoader transform
     // ==========================================================================
@@ -267,6 +394,84 @@ public class RocketAnimTransformer implements IClassTransformer {
         return cw.toByteArray();
     }
 
+    // ==========================================================================
+    //  TileEntityLandingPad transform
+    // ==========================================================================
+
+    /**
+     * (15) Reports every landing pad centre to LandingPadIndex:
+     *   validate()      → hookLandingPadValidate(this)    after the original body
+     *   invalidate()    → hookLandingPadInvalidate(this)  before it
+     *   onChunkUnload() → hookLandingPadInvalidate(this)  before it
+     * GC's pad may not override these; the missing ones are generated as
+     * "super.m(); hook(this);" (or the reverse) under the name the running
+     * environment uses — SRG in production, MCP in a dev workspace.
+     */
+    private byte[] transformLandingPad(byte[] basicClass) {
+        System.out.println("[GTNH Rocket Anim] Transforming TileEntityLandingPad");
+
+        ClassNode cn = new ClassNode();
+        new ClassReader(basicClass).accept(cn, 0);
+
+        boolean deobf = Launch.blackboard != null
+                && Boolean.TRUE.equals(Launch.blackboard.get("fml.deobfuscatedEnvironment"));
+        hookPadMethod(cn, deobf ? "validate"   : "func_145829_t", "validate",      "hookLandingPadValidate",   true);
+        hookPadMethod(cn, deobf ? "invalidate" : "func_145843_s", "invalidate",    "hookLandingPadInvalidate", false);
+        hookPadMethod(cn, "onChunkUnload",                        "onChunkUnload", "hookLandingPadInvalidate", false);
+
+        if (patchedLandingPad < 3) {
+            System.out.println("[GTNH Rocket Anim] WARNING: TileEntityLandingPad: only " + patchedLandingPad
+                               + "/3 index hooks injected — LandingPadIndex falls back to block scans.");
+        }
+
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES);
+        cn.accept(cw);
+        return cw.toByteArray();
+    }
+
+    private void hookPadMethod(ClassNode cn, String name, String mcpName, String hook, boolean after) {
+        MethodNode target = null;
+        for (MethodNode mn : cn.methods) {
+            if ((name.equals(mn.name) || mcpName.equals(mn.name)) && "()V".equals(mn.desc)) {
+                target = mn;
+                break;
+            }
+        }
+
+        InsnList call = new InsnList();
+        call.add(new VarInsnNode(Opcodes.ALOAD, 0));
+        call.add(new MethodInsnNode(Opcodes.INVOKESTATIC, HOOKS,
+                hook, "(Lnet/minecraft/tileentity/TileEntity;)V", false));
+
+        if (target == null) {
+            target = new MethodNode(Opcodes.ACC_PUBLIC, name, "()V", null, null);
+            InsnList body = new InsnList();
+            if (!after) body.add(call);
+            body.add(new VarInsnNode(Opcodes.ALOAD, 0));
+            body.add(new MethodInsnNode(Opcodes.INVOKESPECIAL, cn.superName, name, "()V", false));
+            if (after) body.add(call);
+            body.add(new InsnNode(Opcodes.RETURN));
+            target.instructions = body;
+            cn.methods.add(target);
+            System.out.println("[GTNH Rocket Anim] Generated TileEntityLandingPad." + name + "()V");
+        } else if (after) {
+            for (AbstractInsnNode n = target.instructions.getFirst(); n != null; n = n.getNext()) {
+                if (n.getOpcode() == Opcodes.RETURN) {
+                    InsnList copy = new InsnList();
+                    copy.add(new VarInsnNode(Opcodes.ALOAD, 0));
+                    copy.add(new MethodInsnNode(Opcodes.INVOKESTATIC, HOOKS,
+                            hook, "(Lnet/minecraft/tileentity/TileEntity;)V", false));
+                    target.instructions.insertBefore(n, copy);
+                }
+            }
+            System.out.println("[GTNH Rocket Anim] Patched TileEntityLandingPad." + target.name + "()V");
+        } else {
+            target.instructions.insert(call);
+            System.out.println("[GTNH Rocket Anim] Patched TileEntityLandingPad." + target.name + "()V");
+        }
+        patchedLandingPad++;
+    }
+
     // ==========================================================================
     //  EntityCargoRocket patch implementations
     // ==========================================================================
@@ -368,27 +573,63 @@ public class RocketAnimTransformer implements IClassTransformer {
         System.out.println("[GTNH Rocket Anim] moveToDestination patched");
     }
 
-    /** (2) Inject tick hook before the final RETURN. */
-    private void injectTickHook(MethodNode mn) {
+    /**
+     * (2) Inject tick hook before the final RETURN:
+     *
+     *   RocketAnimHooks.onCargoRocketTick(this, landing,
+     *       targetVec != null, targetVec.x, targetVec.y, targetVec.z,   // 0s when null
+     *       destinationFrequency, launchPhase, timeSinceLaunch);
+     *
+     * All arguments are primitives read with direct GETFIELDs, so the hook never
+     * has to reflect on targetVec or the entity.
+     */
+    private void injectTickHook(MethodNode mn, boolean hasDestFrequency) {
         AbstractInsnNode ret = findLastReturn(mn);
         if (ret == null) {
             System.out.println("[GTNH Rocket Anim] WARN: no RETURN in tick method");
             return;
         }
 
+        String vecDesc = "L" + BLOCKVEC3 + ";";
+        LabelNode noTarget = new LabelNode();
+        LabelNode targetDone = new LabelNode();
+
         InsnList call = new InsnList();
         call.add(new VarInsnNode(Opcodes.ALOAD, 0));
         call.add(new VarInsnNode(Opcodes.ALOAD, 0));
         call.add(new FieldInsnNode(Opcodes.GETFIELD, TARGET_CLASS, "landing", "Z"));
+
+        // hasTarget, x, y, z
         call.add(new VarInsnNode(Opcodes.ALOAD, 0));
-        call.add(new FieldInsnNode(Opcodes.GETFIELD, TARGET_CLASS, "targetVec", "L" + BLOCKVEC3 + ";"));
+        call.add(new FieldInsnNode(Opcodes.GETFIELD, TARGET_CLASS, "targetVec", vecDesc));
+        call.add(new JumpInsnNode(Opcodes.IFNULL, noTarget));
+        call.add(new InsnNode(Opcodes.ICONST_1));
+        for (String axis : new String[] { "x", "y", "z" }) {
+            call.add(new VarInsnNode(Opcodes.ALOAD, 0));
+            call.add(new FieldInsnNode(Opcodes.GETFIELD, TARGET_CLASS, "targetVec", vecDesc));
+            call.add(new FieldInsnNode(Opcodes.GETFIELD, BLOCKVEC3, axis, "I"));
+        }
+        call.add(new JumpInsnNode(Opcodes.GOTO, targetDone));
+        call.add(noTarget);
+        call.add(new InsnNode(Opcodes.ICONST_0));
+        call.add(new InsnNode(Opcodes.ICONST_0));
+        call.add(new InsnNode(Opcodes.ICONST_0));
+        call.add(new InsnNode(Opcodes.ICONST_0));
+        call.add(targetDone);
+
+        if (hasDestFrequency) {
+            call.add(new VarInsnNode(Opcodes.ALOAD, 0));
+            call.add(new FieldInsnNode(Opcodes.GETFIELD, TARGET_CLASS, "destinationFrequency", "I"));
+        } else {
+            call.add(new InsnNode(Opcodes.ICONST_M1));
+        }
         call.add(new VarInsnNode(Opcodes.ALOAD, 0));
         call.add(new FieldInsnNode(Opcodes.GETFIELD, TARGET_CLASS, "launchPhase", "I"));
         call.add(new VarInsnNode(Opcodes.ALOAD, 0));
         call.add(new FieldInsnNode(Opcodes.GETFIELD, TARGET_CLASS, "timeSinceLaunch", "F"));
         call.add(new MethodInsnNode(Opcodes.INVOKESTATIC, HOOKS,
                 "onCargoRocketTick",
-                "(Lnet/minecraft/entity/Entity;ZLjava/lang/Object;IF)V", false));
+                "(Lnet/minecraft/entity/Entity;ZZIIIIIF)V", false));
 
         mn.instructions.insertBefore(ret, call);
         System.out.println("[GTNH Rocket Anim] tick hook injected");
@@ -518,6 +759,170 @@ public class RocketAnimTransformer implements IClassTransformer {
         System.out.println("[GTNH Rocket Anim] getSizeInventory patched");
     }
 
+    /**
+     * (12) Adds the per-entity animation state to EntityCargoRocket:
+     *
+     *   private transient FlightState gtnhrocketanim$flightState;
+     *
+     *   public FlightState gtnhrocketanim$getFlightState() {
+     *       FlightState s = this.gtnhrocketanim$flightState;
+     *       if (s == null) this.gtnhrocketanim$flightState = s = new FlightState();
+     *       return s;
+     *   }
+     *
+     * and declares IFlightStateHolder.  One reference field rather than one
+     * field per value: FlightState is also the fallback record for rockets
+     * the transformer cannot reach, so the hooks keep a single code path and
+     * new state never needs another class patch.
+     *
+     * The getter is lazy instead of initialising the field in <init> because
+     * Entity's constructor calls overridable methods (entityInit) before our
+     * subclass fields would be assigned.
+     */
+    private boolean injectFlightStateField(ClassNode cn) {
+        for (FieldNode fn : cn.fields) {
+            if (FLIGHT_STATE_FIELD.equals(fn.name)) {
+                System.out.println("[GTNH Rocket Anim] FlightState field already present, skipping");
+                return true;
+            }
+        }
+
+        String stateDesc = "L" + FLIGHT_STATE + ";";
+        cn.fields.add(new FieldNode(Opcodes.ACC_PRIVATE | Opcodes.ACC_TRANSIENT | Opcodes.ACC_SYNTHETIC,
+                FLIGHT_STATE_FIELD, stateDesc, null, null));
+        if (!cn.interfaces.contains(FLIGHT_STATE_HOLDER)) {
+            cn.interfaces.add(FLIGHT_STATE_HOLDER);
+        }
+
+        MethodNode getter = new MethodNode(Opcodes.ACC_PUBLIC,
+                FLIGHT_STATE_GETTER, "()" + stateDesc, null, null);
+        InsnList insn = getter.instructions;
+        LabelNode done = new LabelNode();
+        insn.add(new VarInsnNode(Opcodes.ALOAD, 0));
+        insn.add(new FieldInsnNode(Opcodes.GETFIELD, TARGET_CLASS, FLIGHT_STATE_FIELD, stateDesc));
+        insn.add(new InsnNode(Opcodes.DUP));
+        insn.add(new JumpInsnNode(Opcodes.IFNONNULL, done));
+        // stack: [null] -> [state]
+        insn.add(new InsnNode(Opcodes.POP));
+        insn.add(new VarInsnNode(Opcodes.ALOAD, 0));
+        insn.add(new TypeInsnNode(Opcodes.NEW, FLIGHT_STATE));
+        insn.add(new InsnNode(Opcodes.DUP));
+        insn.add(new MethodInsnNode(Opcodes.INVOKESPECIAL, FLIGHT_STATE, "<init>", "()V", false));
+        insn.add(new InsnNode(Opcodes.DUP_X1));
+        insn.add(new FieldInsnNode(Opcodes.PUTFIELD, TARGET_CLASS, FLIGHT_STATE_FIELD, stateDesc));
+        insn.add(done);
+        insn.add(new InsnNode(Opcodes.ARETURN));
+        cn.methods.add(getter);
+
+        System.out.println("[GTNH Rocket Anim] FlightState field + IFlightStateHolder injected");
+        return true;
+    }
+
+    /**
+     * (13) Makes EntityCargoRocket implement ICargoRocketAccess with generated
+     * GETFIELD/PUTFIELD accessors, replacing the hooks' Field.get/set calls.
+     *
+     * Every field is looked up in the class hierarchy first (superclass bytes
+     * come from the launch class loader, nothing is loaded).  If any field is
+     * missing, has another type or would be inaccessible from EntityCargoRocket,
+     * nothing is injected: an interface with a missing method would throw
+     * AbstractMethodError at runtime, whereas without it the hooks simply
+     * use the GCAccessors MethodHandles.
+     */
+    private boolean injectCargoRocketAccess(ClassNode cn) {
+        String typeDesc = "L" + ENUM_ROCKET_TYPE + ";";
+        String tankDesc = "L" + FLUID_TANK + ";";
+        String vecDesc  = "L" + BLOCKVEC3 + ";";
+
+        ClassNode vec = readClassNode(BLOCKVEC3);
+        boolean ok = checkField(cn, "rocketType", typeDesc, false)
+                   & checkField(cn, "fuelTank", tankDesc, false)
+                   & checkField(cn, "landing", "Z", false)
+                   & checkField(cn, "targetVec", vecDesc, false)
+                   & checkField(cn, "destinationFrequency", "I", false)
+                   & checkField(vec, "x", "I", true)
+                   & checkField(vec, "y", "I", true)
+                   & checkField(vec, "z", "I", true);
+        if (!ok) return false;
+        if (cn.interfaces.contains(CARGO_ACCESS)) return true;
+        cn.interfaces.add(CARGO_ACCESS);
+
+        // int gtnhrocketanim$getRocketTypeOrdinal() { return rocketType != null ? rocketType.ordinal() : -1; }
+        MethodNode m = accessor("gtnhrocketanim$getRocketTypeOrdinal", "()I");
+        LabelNode notNull = new LabelNode();
+        m.instructions.add(new VarInsnNode(Opcodes.ALOAD, 0));
+        m.instructions.add(new FieldInsnNode(Opcodes.GETFIELD, TARGET_CLASS, "rocketType", typeDesc));
+        m.instructions.add(new InsnNode(Opcodes.DUP));
+        m.instructions.add(new JumpInsnNode(Opcodes.IFNONNULL, notNull));
+        m.instructions.add(new InsnNode(Opcodes.POP));
+        m.instructions.add(new InsnNode(Opcodes.ICONST_M1));
+        m.instructions.add(new InsnNode(Opcodes.IRETURN));
+        m.instructions.add(notNull);
+        m.instructions.add(new MethodInsnNode(Opcodes.INVOKEVIRTUAL, "java/lang/Enum", "ordinal", "()I", false));
+        m.instructions.add(new InsnNode(Opcodes.IRETURN));
+        cn.methods.add(m);
+
+        cn.methods.add(getter("gtnhrocketanim$getFuelTank", "fuelTank", tankDesc, Opcodes.ARETURN));
+        cn.methods.add(setter("gtnhrocketanim$setFuelTank", "fuelTank", tankDesc, Opcodes.ALOAD));
+        cn.methods.add(getter("gtnhrocketanim$isLanding", "landing", "Z", Opcodes.IRETURN));
+        cn.methods.add(setter("gtnhrocketanim$setLanding", "landing", "Z", Opcodes.ILOAD));
+        cn.methods.add(getter("gtnhrocketanim$getDestinationFrequency", "destinationFrequency", "I", Opcodes.IRETURN));
+
+        // boolean gtnhrocketanim$hasTarget() { return targetVec != null; }
+        m = accessor("gtnhrocketanim$hasTarget", "()Z");
+        LabelNode none = new LabelNode();
+        m.instructions.add(new VarInsnNode(Opcodes.ALOAD, 0));
+        m.instructions.add(new FieldInsnNode(Opcodes.GETFIELD, TARGET_CLASS, "targetVec", vecDesc));
+        m.instructions.add(new JumpInsnNode(Opcodes.IFNULL, none));
+        m.instructions.add(new InsnNode(Opcodes.ICONST_1));
+        m.instructions.add(new InsnNode(Opcodes.IRETURN));
+        m.instructions.add(none);
+        m.instructions.add(new InsnNode(Opcodes.ICONST_0));
+        m.instructions.add(new InsnNode(Opcodes.IRETURN));
+        cn.methods.add(m);
+
+        // int gtnhrocketanim$getTargetX() { return targetVec != null ? targetVec.x : 0; }  (same for Y, Z)
+        for (String axis : new String[] { "X", "Y", "Z" }) {
+            m = accessor("gtnhrocketanim$getTarget" + axis, "()I");
+            LabelNode present = new LabelNode();
+            m.instructions.add(new VarInsnNode(Opcodes.ALOAD, 0));
+            m.instructions.add(new FieldInsnNode(Opcodes.GETFIELD, TARGET_CLASS, "targetVec", vecDesc));
+            m.instructions.add(new InsnNode(Opcodes.DUP));
+            m.instructions.add(new JumpInsnNode(Opcodes.IFNONNULL, present));
+            m.instructions.add(new InsnNode(Opcodes.POP));
+            m.instructions.add(new InsnNode(Opcodes.ICONST_0));
+            m.instructions.add(new InsnNode(Opcodes.IRETURN));
+            m.instructions.add(present);
+            m.instructions.add(new FieldInsnNode(Opcodes.GETFIELD, BLOCKVEC3, axis.toLowerCase(), "I"));
+            m.instructions.add(new InsnNode(Opcodes.IRETURN));
+            cn.methods.add(m);
+        }
+
+        System.out.println("[GTNH Rocket Anim] ICargoRocketAccess injected");
+        return true;
+    }
+
+    private static MethodNode accessor(String name, String desc) {
+        return new MethodNode(Opcodes.ACC_PUBLIC | Opcodes.ACC_SYNTHETIC, name, desc, null, null);
+    }
+
+    private static MethodNode getter(String name, String field, String desc, int returnOp) {
+        MethodNode m = accessor(name, "()" + desc);
+        m.instructions.add(new VarInsnNode(Opcodes.ALOAD, 0));
+        m.instructions.add(new FieldInsnNode(Opcodes.GETFIELD, TARGET_CLASS, field, desc));
+        m.instructions.add(new InsnNode(returnOp));
+        return m;
+    }
+
+    private static MethodNode setter(String name, String field, String desc, int loadOp) {
+        MethodNode m = accessor(name, "(" + desc + ")V");
+        m.instructions.add(new VarInsnNode(Opcodes.ALOAD, 0));
+        m.instructions.add(new VarInsnNode(loadOp, 1));
+        m.instructions.add(new FieldInsnNode(Opcodes.PUTFIELD, TARGET_CLASS, field, desc));
+        m.instructions.add(new InsnNode(Opcodes.RETURN));
+        return m;
+    }
+
     /**
      * Injects at the START of TileEntityFuelLoader.isCorrectFuel(IFuelable):
      *
@@ -668,6 +1073,52 @@ public class RocketAnimTransformer implements IClassTransformer {
         return null;
     }
 
+    /**
+     * Looks for {@code name} in {@code start} and its superclasses (stopping at
+     * vanilla classes) and checks its descriptor and accessibility.  Private
+     * fields only count when declared in {@code start} itself; needPublic is for
+     * fields read from outside the class hierarchy.  Logs why a check fails.
+     */
+    private static boolean checkField(ClassNode start, String name, String desc, boolean needPublic) {
+        for (ClassNode node = start; node != null; node = readClassNode(node.superName)) {
+            for (FieldNode fn : node.fields) {
+                if (!name.equals(fn.name)) continue;
+                String where = node.name + "." + name;
+                if (!desc.equals(fn.desc)) {
+                    System.out.println("[GTNH Rocket Anim] WARNING: " + where + " is " + fn.desc + ", expected " + desc);
+                    return false;
+                }
+                boolean isPrivate = (fn.access & Opcodes.ACC_PRIVATE) != 0;
+                boolean isPublic  = (fn.access & Opcodes.ACC_PUBLIC) != 0;
+                if (needPublic ? !isPublic : (isPrivate && node != start)) {
+                    System.out.println("[GTNH Rocket Anim] WARNING: " + where + " is not accessible");
+                    return false;
+                }
+                return true;
+            }
+        }
+        System.out.println("[GTNH Rocket Anim] WARNING: field '" + name + "' not found in "
+                           + (start != null ? start.name : "(missing class)") + " hierarchy");
+        return false;
+    }
+
+    /** Reads a mod class's untransformed bytes without loading it; null for vanilla/JDK classes. */
+    private static ClassNode readClassNode(String internalName) {
+        if (internalName == null || internalName.startsWith("java/") || internalName.startsWith("net/minecraft/")) {
+            return null;
+        }
+        try {
+            byte[] bytes = Launch.classLoader.getClassBytes(internalName.replace('/', '.'));
+            if (bytes == null) return null;
+            ClassNode node = new ClassNode();
+            new ClassReader(bytes).accept(node, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+            return node;
+        } catch (Exception e) {
+            System.out.println("[GTNH Rocket Anim] WARNING: could not read " + internalName + ": " + e);
+            return null;
+        }
+    }
+
     private static void logMissing(String label, boolean patched) {
         if (!patched) {
             System.out.println("[GTNH Rocket Anim] WARNING: '" + label + "' not found — patch skipped.");